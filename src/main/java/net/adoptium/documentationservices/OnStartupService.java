@@ -1,46 +1,34 @@
 package net.adoptium.documentationservices;
 
-import net.adoptium.documentationservices.services.RepoService;
+import net.adoptium.documentationservices.services.DocumentationService;
+import net.adoptium.documentationservices.services.RepoUpdateScheduler;
 import org.eclipse.microprofile.config.inject.ConfigProperty;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 import javax.enterprise.context.Initialized;
 import javax.enterprise.event.Observes;
 import javax.inject.Inject;
 import javax.inject.Singleton;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
 
 @Singleton
 public class OnStartupService {
 
-    private static final Logger LOG = LoggerFactory.getLogger(OnStartupService.class);
+    private final RepoUpdateScheduler updateScheduler;
 
-    private final RepoService repoService;
+    private final DocumentationService documentationService;
 
     private final int periodeInSec;
 
     @Inject
-    public OnStartupService(final RepoService repoService,
+    public OnStartupService(final RepoUpdateScheduler updateScheduler,
+                            final DocumentationService documentationService,
                             @ConfigProperty(name = "documentation.refresh.periodeInSec") final int periodeInSec) {
-        this.repoService = repoService;
+        this.updateScheduler = updateScheduler;
+        this.documentationService = documentationService;
         this.periodeInSec = periodeInSec;
     }
 
     public void init(@Observes @Initialized(Singleton.class) Object init) {
-        final ScheduledExecutorService executorService = Executors.newSingleThreadScheduledExecutor();
-        executorService.scheduleAtFixedRate(() -> updateRepo(), 0, periodeInSec, TimeUnit.SECONDS);
-    }
-
-    private void updateRepo() {
-        try {
-            if (repoService.isUpdateAvailable()) {
-                repoService.downloadRepositoryContent();
-            }
-        } catch (final Exception e) {
-            LOG.error("Error in repo update (check)", e);
-        }
+        documentationService.warmUpAsync();
+        updateScheduler.schedulePeriodicUpdates(periodeInSec);
     }
 }
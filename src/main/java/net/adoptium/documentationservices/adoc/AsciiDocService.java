@@ -4,9 +4,18 @@ import org.asciidoctor.Asciidoctor;
 import org.asciidoctor.Attributes;
 import org.asciidoctor.Options;
 import org.asciidoctor.ast.Document;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.metrics.MetricUnits;
+import org.eclipse.microprofile.metrics.annotation.Gauge;
+import org.eclipse.microprofile.metrics.annotation.Metered;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import javax.annotation.PreDestroy;
 import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
@@ -17,10 +26,24 @@ import java.util.Set;
 @ApplicationScoped
 public class AsciiDocService {
 
-    private final Asciidoctor asciidoctor;
+    private static final Logger LOG = LoggerFactory.getLogger(AsciiDocService.class);
+
+    private static final int DEFAULT_POOL_SIZE = 1;
+
+    private final AsciidoctorPool pool;
 
     public AsciiDocService() {
-        this.asciidoctor = Asciidoctor.Factory.create();
+        this(DEFAULT_POOL_SIZE);
+    }
+
+    @Inject
+    public AsciiDocService(@ConfigProperty(name = "documentation.asciidoctor.poolSize") final int poolSize) {
+        this.pool = new AsciidoctorPool(poolSize);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdown();
     }
 
     private Options createOptions(final String foldername) {
@@ -30,8 +53,7 @@ public class AsciiDocService {
                 .build();
     }
 
-    private Document loadDocument(final Path pathToAdoc) {
-        Objects.requireNonNull(pathToAdoc, "pathToAdoc should not be null!");
+    private Document loadDocument(final Asciidoctor asciidoctor, final Path pathToAdoc) {
         try {
             return asciidoctor.loadFile(pathToAdoc.toFile(), createOptions(pathToAdoc.getParent().toFile().getName()));
         } catch (final Exception exception) {
@@ -40,19 +62,64 @@ public class AsciiDocService {
     }
 
     public String getTitle(final Path pathToAdoc) {
-        return loadDocument(pathToAdoc).getTitle();
+        Objects.requireNonNull(pathToAdoc, "pathToAdoc should not be null!");
+        return pool.execute(asciidoctor -> loadDocument(asciidoctor, pathToAdoc).getTitle());
     }
 
     public Map<String, String> getMetadata(final Path pathToAdoc) {
-        final Set<Map.Entry<String, Object>> entries = loadDocument(pathToAdoc).getAttributes()
+        Objects.requireNonNull(pathToAdoc, "pathToAdoc should not be null!");
+        return pool.execute(asciidoctor -> getMetadata(loadDocument(asciidoctor, pathToAdoc)));
+    }
+
+    public String convertToHtmlContent(final Path pathToAdoc) {
+        Objects.requireNonNull(pathToAdoc, "pathToAdoc should not be null!");
+        return pool.execute(asciidoctor -> loadDocument(asciidoctor, pathToAdoc).convert());
+    }
+
+    /**
+     * Parses the given AsciiDoc file once and provides its title, metadata and HTML content.
+     *
+     * @param pathToAdoc path to the AsciiDoc file
+     * @return the rendered document
+     */
+    @Metered(name = "asciidocConversions", absolute = true, description = "Number and rate of rendered AsciiDoc files")
+    public RenderedDocument render(final Path pathToAdoc) {
+        Objects.requireNonNull(pathToAdoc, "pathToAdoc should not be null!");
+        final long start = System.nanoTime();
+        final RenderedDocument renderedDocument = pool.execute(asciidoctor -> {
+            final Document document = loadDocument(asciidoctor, pathToAdoc);
+            final String title = document.getTitle();
+            final Map<String, String> metadata = getMetadata(document);
+            try {
+                return new RenderedDocument(title, metadata, document.convert());
+            } catch (final Exception exception) {
+                throw new AsciiDocException("Error in converting Asciidoc file '" + pathToAdoc + "'", exception);
+            }
+        });
+        LOG.debug("Rendered '{}' in {} ms", pathToAdoc, Duration.ofNanos(System.nanoTime() - start).toMillis());
+        return renderedDocument;
+    }
+
+    public int getPoolSize() {
+        return pool.getSize();
+    }
+
+    @Gauge(name = "asciidoctorPoolInUse", absolute = true, unit = MetricUnits.NONE, description = "Number of Asciidoctor instances that are currently in use")
+    public int getPoolInUse() {
+        return pool.getInUse();
+    }
+
+    @Gauge(name = "asciidoctorPoolWaitTime", absolute = true, unit = MetricUnits.MILLISECONDS, description = "Summed up time that was spent waiting for an Asciidoctor instance")
+    public long getPoolWaitTime() {
+        return pool.getWaitTimeInMillis();
+    }
+
+    private Map<String, String> getMetadata(final Document document) {
+        final Set<Map.Entry<String, Object>> entries = document.getAttributes()
                 .entrySet();
         Map<String, String> metadata = new HashMap<>();
         entries.forEach(entry -> metadata.put(entry.getKey(), Optional.ofNullable(entry.getValue()).map(v -> v.toString()).filter(v -> !v.isBlank()).orElse(null)));
         return Collections.unmodifiableMap(metadata);
     }
 
-    public String convertToHtmlContent(final Path pathToAdoc) {
-        return loadDocument(pathToAdoc).convert();
-    }
-
 }
@@ -0,0 +1,125 @@
+package net.adoptium.documentationservices.adoc;
+
+import org.asciidoctor.Asciidoctor;
+import org.asciidoctor.Options;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * A fixed size pool of {@link Asciidoctor} instances. Each instance has its own JRuby runtime and is only used by one
+ * thread at a time.
+ */
+public class AsciidoctorPool {
+
+    private static final Logger LOG = LoggerFactory.getLogger(AsciidoctorPool.class);
+
+    private static final String WARM_UP_CONTENT = "= Warm up\n:description: warm up\n\n== Section\n\nSome *text* with a https://adoptium.net[link].\n";
+
+    private final int size;
+
+    private final BlockingQueue<Asciidoctor> instances;
+
+    private final AtomicInteger inUse;
+
+    private final AtomicLong executions;
+
+    private final AtomicLong waitTimeInNanos;
+
+    public AsciidoctorPool(final int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Size of pool must be at least 1");
+        }
+        this.size = size;
+        this.instances = new ArrayBlockingQueue<>(size);
+        this.inUse = new AtomicInteger();
+        this.executions = new AtomicLong();
+        this.waitTimeInNanos = new AtomicLong();
+
+        final long start = System.nanoTime();
+        final List<Asciidoctor> createdInstances = IntStream.range(0, size)
+                .parallel()
+                .mapToObj(i -> createInstance())
+                .collect(Collectors.toList());
+        instances.addAll(createdInstances);
+        LOG.info("Created pool of {} Asciidoctor instances in {} ms", size, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    /**
+     * Executes the given function with an instance of the pool. Waits until an instance is available.
+     *
+     * @param function the function that is executed exclusively with the instance
+     * @param <T>      the result type
+     * @return the result of the function
+     */
+    public <T> T execute(final Function<Asciidoctor, T> function) {
+        final long start = System.nanoTime();
+        final Asciidoctor asciidoctor;
+        try {
+            asciidoctor = instances.take();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AsciiDocException("Interrupted while waiting for Asciidoctor instance", e);
+        }
+        waitTimeInNanos.addAndGet(System.nanoTime() - start);
+        inUse.incrementAndGet();
+        try {
+            return function.apply(asciidoctor);
+        } finally {
+            executions.incrementAndGet();
+            inUse.decrementAndGet();
+            instances.add(asciidoctor);
+        }
+    }
+
+    /**
+     * Shuts down all instances that are currently not in use.
+     */
+    public void shutdown() {
+        Asciidoctor asciidoctor;
+        while ((asciidoctor = instances.poll()) != null) {
+            asciidoctor.shutdown();
+        }
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * @return number of instances that are currently in use
+     */
+    public int getInUse() {
+        return inUse.get();
+    }
+
+    /**
+     * @return number of executions since the pool was created
+     */
+    public long getExecutions() {
+        return executions.get();
+    }
+
+    /**
+     * @return the summed up time that callers waited for an instance since the pool was created
+     */
+    public long getWaitTimeInMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(waitTimeInNanos.get());
+    }
+
+    private static Asciidoctor createInstance() {
+        final Asciidoctor asciidoctor = Asciidoctor.Factory.create();
+        //The first conversion of an instance is slow since JRuby needs to load & compile the converter
+        asciidoctor.convert(WARM_UP_CONTENT, Options.builder().headerFooter(false).build());
+        return asciidoctor;
+    }
+}
@@ -0,0 +1,61 @@
+package net.adoptium.documentationservices.adoc;
+
+import net.adoptium.documentationservices.util.EncodedContent;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Result of parsing and converting a single AsciiDoc file.
+ */
+public class RenderedDocument {
+
+    /**
+     * The title of the document (can be {@code null} if the document does not define a title)
+     */
+    private final String title;
+
+    /**
+     * The attributes of the document
+     */
+    private final Map<String, String> metadata;
+
+    /**
+     * The content of the document rendered as HTML, only kept as UTF-8 (and gzip compressed) bytes
+     */
+    private final EncodedContent htmlContent;
+
+    public RenderedDocument(final String title, final Map<String, String> metadata, final String htmlContent) {
+        this(title, metadata, EncodedContent.of(Objects.requireNonNull(htmlContent, "htmlContent must not be null")));
+    }
+
+    public RenderedDocument(final String title, final Map<String, String> metadata, final EncodedContent htmlContent) {
+        this.title = title;
+        this.metadata = Collections.unmodifiableMap(new HashMap<>(Objects.requireNonNull(metadata, "metadata must not be null")));
+        this.htmlContent = Objects.requireNonNull(htmlContent, "htmlContent must not be null");
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public Map<String, String> getMetadata() {
+        return metadata;
+    }
+
+    /**
+     * Decodes the HTML content. Use {@link #getEncodedHtmlContent()} to write the content without decoding it.
+     *
+     * @return the HTML content
+     */
+    public String getHtmlContent() {
+        return new String(htmlContent.getContent(), StandardCharsets.UTF_8);
+    }
+
+    public EncodedContent getEncodedHtmlContent() {
+        return htmlContent;
+    }
+}
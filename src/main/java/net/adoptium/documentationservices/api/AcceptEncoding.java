@@ -0,0 +1,53 @@
+package net.adoptium.documentationservices.api;
+
+import java.util.Locale;
+
+/**
+ * Evaluates the {@code Accept-Encoding} header of a request.
+ */
+class AcceptEncoding {
+
+    static final String GZIP = "gzip";
+
+    private AcceptEncoding() {
+    }
+
+    /**
+     * Checks if the client accepts gzip compressed content. An explicit entry for gzip has precedence over a wildcard.
+     *
+     * @param header the {@code Accept-Encoding} header, can be {@code null}
+     * @return true if gzip compressed content can be sent
+     */
+    static boolean acceptsGzip(final String header) {
+        if (header == null) {
+            return false;
+        }
+        Boolean wildcard = null;
+        for (final String element : header.split(",")) {
+            final String[] parts = element.split(";");
+            final String coding = parts[0].trim().toLowerCase(Locale.ROOT);
+            final boolean accepted = getQuality(parts) > 0;
+            if (GZIP.equals(coding) || "x-gzip".equals(coding)) {
+                return accepted;
+            }
+            if ("*".equals(coding)) {
+                wildcard = accepted;
+            }
+        }
+        return wildcard != null && wildcard;
+    }
+
+    private static double getQuality(final String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            final String parameter = parts[i].trim();
+            if (parameter.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(parameter.substring(2).trim());
+                } catch (final NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+}
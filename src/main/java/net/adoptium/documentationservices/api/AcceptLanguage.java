@@ -0,0 +1,121 @@
+package net.adoptium.documentationservices.api;
+
+import net.adoptium.documentationservices.model.Document;
+import net.adoptium.documentationservices.model.Documentation;
+import net.adoptium.documentationservices.util.LocaleUtils;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Evaluates the {@code Accept-Language} header of a request. Clients send the same few header values again and again,
+ * so parsed headers are cached.
+ */
+class AcceptLanguage {
+
+    /**
+     * Maximum number of cached headers, the cache is cleared when it is full so arbitrary headers can not fill the heap
+     */
+    private static final int MAX_CACHED_HEADERS = 1024;
+
+    private static final String WILDCARD = "*";
+
+    private static final Map<String, List<Locale.LanguageRange>> RANGES_BY_HEADER = new ConcurrentHashMap<>();
+
+    private AcceptLanguage() {
+    }
+
+    /**
+     * Selects the document that matches the preferences of the client best. The languages are tried in the order of
+     * their quality. For each language the document in the language or in a less specific locale of the language is
+     * used (like {@code pt} for {@code pt-BR}). The wildcard {@code *} matches the english document or, if that is not
+     * acceptable, the first acceptable document. Languages with a quality of {@code 0} are never selected by a
+     * matching range (so {@code de;q=0, *} never selects the german document). If no language matches the english
+     * document is used.
+     *
+     * @param header        the {@code Accept-Language} header, can be {@code null}
+     * @param documentation the documentation
+     * @return the document
+     */
+    static Document selectDocument(final String header, final Documentation documentation) {
+        final List<Locale.LanguageRange> ranges = parse(header);
+        final List<String> excludedRanges = ranges.stream()
+                .filter(range -> range.getWeight() <= 0)
+                .map(range -> range.getRange())
+                .collect(Collectors.toList());
+        for (final Locale.LanguageRange range : ranges) {
+            if (range.getWeight() <= 0) {
+                continue;
+            }
+            final Optional<Document> document;
+            if (WILDCARD.equals(range.getRange())) {
+                document = Stream.concat(Stream.of(documentation.getDocument(Locale.ENGLISH)), documentation.getDocuments())
+                        .filter(d -> !isExcluded(d, excludedRanges))
+                        .findFirst();
+            } else {
+                document = toLocale(range.getRange())
+                        .flatMap(documentation::findDocument)
+                        .filter(d -> !isExcluded(d, excludedRanges));
+            }
+            if (document.isPresent()) {
+                return document.get();
+            }
+        }
+        return documentation.getDocument(Locale.ENGLISH);
+    }
+
+    /**
+     * Checks if a range with a quality of {@code 0} matches the locale of the document (a range matches its own locale
+     * and all more specific locales, like {@code de} matches {@code de-AT}).
+     */
+    private static boolean isExcluded(final Document document, final List<String> excludedRanges) {
+        final String languageTag = document.getLocale().toLanguageTag().toLowerCase(Locale.ROOT);
+        return excludedRanges.stream().anyMatch(range -> WILDCARD.equals(range) || languageTag.equals(range) || languageTag.startsWith(range + "-"));
+    }
+
+    /**
+     * Parses the header, the ranges are ordered by their quality.
+     *
+     * @param header the {@code Accept-Language} header, can be {@code null}
+     * @return the language ranges, empty if the header is missing or invalid
+     */
+    static List<Locale.LanguageRange> parse(final String header) {
+        if (header == null || header.isBlank()) {
+            return Collections.emptyList();
+        }
+        final List<Locale.LanguageRange> cachedRanges = RANGES_BY_HEADER.get(header);
+        if (cachedRanges != null) {
+            return cachedRanges;
+        }
+        List<Locale.LanguageRange> ranges;
+        try {
+            ranges = Collections.unmodifiableList(Locale.LanguageRange.parse(header));
+        } catch (final IllegalArgumentException e) {
+            ranges = Collections.emptyList();
+        }
+        if (RANGES_BY_HEADER.size() >= MAX_CACHED_HEADERS) {
+            RANGES_BY_HEADER.clear();
+        }
+        RANGES_BY_HEADER.put(header, ranges);
+        return ranges;
+    }
+
+    private static Optional<Locale> toLocale(final String range) {
+        if (range.contains("*")) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(LocaleUtils.getBasedOnIsoCode(range));
+        } catch (final IllegalArgumentException e) {
+            //unknown regions (like 'de-xx') still match the language
+            final int separator = range.indexOf('-');
+            return separator > 0 ? toLocale(range.substring(0, separator)) : Optional.empty();
+        }
+    }
+}
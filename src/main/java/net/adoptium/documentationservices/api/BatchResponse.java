@@ -0,0 +1,176 @@
+package net.adoptium.documentationservices.api;
+
+import net.adoptium.documentationservices.api.schema.DocumentRequestInfo;
+import net.adoptium.documentationservices.util.EncodedContent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.ws.rs.core.StreamingOutput;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Writes the documents of a batch request as newline delimited JSON. All documents are requested in parallel and each
+ * one is written as soon as it is available, so a slow document does not delay the others. Each line contains the
+ * requested documentation id and language and either the document or an error. Documents that are not available
+ * before the timeout of the response are written as errors, so a response never waits for a document without limit.
+ */
+class BatchResponse implements StreamingOutput {
+
+    static final String MEDIA_TYPE = "application/x-ndjson";
+
+    private static final Logger LOG = LoggerFactory.getLogger(BatchResponse.class);
+
+    private final List<DocumentRequestInfo> requests;
+
+    private final Duration timeout;
+
+    private final Function<DocumentRequestInfo, CompletableFuture<EncodedContent>> contentProvider;
+
+    /**
+     * @param requests        the requested documents
+     * @param timeout         maximum time to wait for the documents
+     * @param contentProvider provides the serialized document for a request
+     */
+    BatchResponse(final List<DocumentRequestInfo> requests, final Duration timeout,
+                  final Function<DocumentRequestInfo, CompletableFuture<EncodedContent>> contentProvider) {
+        this.requests = List.copyOf(Objects.requireNonNull(requests, "requests must not be null"));
+        this.timeout = Objects.requireNonNull(timeout, "timeout must not be null");
+        this.contentProvider = Objects.requireNonNull(contentProvider, "contentProvider must not be null");
+    }
+
+    @Override
+    public void write(final OutputStream output) throws IOException {
+        final long deadline = System.nanoTime() + timeout.toNanos();
+        final BlockingQueue<Line> lines = new LinkedBlockingQueue<>();
+        final List<CompletableFuture<?>> futures = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            final int index = i;
+            final DocumentRequestInfo request = requests.get(i);
+            CompletableFuture<EncodedContent> future;
+            try {
+                future = contentProvider.apply(request);
+            } catch (final RuntimeException e) {
+                future = CompletableFuture.failedFuture(e);
+            }
+            //the future of the provider is kept, so cancelling it drops work that has not started
+            futures.add(future);
+            future.whenComplete((content, error) -> lines.add(new Line(index, createLine(request, content, error))));
+        }
+        final boolean[] written = new boolean[requests.size()];
+        for (int i = 0; i < requests.size(); i++) {
+            final Line line;
+            try {
+                line = lines.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for documents");
+            }
+            if (line == null) {
+                break;
+            }
+            output.write(line.bytes);
+            output.flush();
+            written[line.index] = true;
+        }
+        for (int i = 0; i < requests.size(); i++) {
+            if (!written[i]) {
+                futures.get(i).cancel(false);
+                LOG.debug("Document '{}' ({}) not available in time", requests.get(i).getDocumentationId(), requests.get(i).getLanguageIsoCode());
+                output.write(createErrorLine(requests.get(i), "Documentation not available in time"));
+            }
+        }
+        output.flush();
+    }
+
+    private static byte[] createLine(final DocumentRequestInfo request, final EncodedContent content, final Throwable error) {
+        if (error != null || content == null) {
+            LOG.debug("Can not get document '{}' ({})", request.getDocumentationId(), request.getLanguageIsoCode(), error);
+            return createErrorLine(request, "Can not get documentation");
+        }
+        final StringBuilder line = createLinePrefix(request).append(",\"document\":");
+        final byte[] prefix = line.toString().getBytes(StandardCharsets.UTF_8);
+        final byte[] document = content.getContent();
+        final byte[] bytes = new byte[prefix.length + document.length + 2];
+        System.arraycopy(prefix, 0, bytes, 0, prefix.length);
+        System.arraycopy(document, 0, bytes, prefix.length, document.length);
+        bytes[bytes.length - 2] = '}';
+        bytes[bytes.length - 1] = '\n';
+        return bytes;
+    }
+
+    private static byte[] createErrorLine(final DocumentRequestInfo request, final String error) {
+        return createLinePrefix(request).append(",\"error\":").append(quote(error)).append("}\n")
+                .toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static StringBuilder createLinePrefix(final DocumentRequestInfo request) {
+        return new StringBuilder("{\"documentationId\":")
+                .append(quote(request.getDocumentationId()))
+                .append(",\"languageIsoCode\":")
+                .append(quote(request.getLanguageIsoCode()));
+    }
+
+    /**
+     * Creates a JSON string literal.
+     */
+    static String quote(final String value) {
+        if (value == null) {
+            return "null";
+        }
+        final StringBuilder builder = new StringBuilder(value.length() + 2).append('"');
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    builder.append("\\\"");
+                    break;
+                case '\\':
+                    builder.append("\\\\");
+                    break;
+                case '\n':
+                    builder.append("\\n");
+                    break;
+                case '\r':
+                    builder.append("\\r");
+                    break;
+                case '\t':
+                    builder.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        builder.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        builder.append(c);
+                    }
+            }
+        }
+        return builder.append('"').toString();
+    }
+
+    /**
+     * A line of the response and the index of its request
+     */
+    private static class Line {
+
+        private final int index;
+
+        private final byte[] bytes;
+
+        Line(final int index, final byte[] bytes) {
+            this.index = index;
+            this.bytes = bytes;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package net.adoptium.documentationservices.api;
+
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A single byte range of a {@code Range} request header (RFC 7233). Requests for multiple ranges are answered with
+ * the complete content, which is allowed by the RFC.
+ */
+class ByteRange {
+
+    private static final Pattern SINGLE_RANGE = Pattern.compile("^bytes=(\\d*)-(\\d*)$");
+
+    /**
+     * First byte of the range
+     */
+    private final long start;
+
+    /**
+     * Last byte of the range (inclusive)
+     */
+    private final long end;
+
+    private final long size;
+
+    private ByteRange(final long start, final long end, final long size) {
+        this.start = start;
+        this.end = end;
+        this.size = size;
+    }
+
+    /**
+     * Parses the given {@code Range} header.
+     *
+     * @param header the header, can be {@code null}
+     * @param size   the size of the complete content
+     * @return the range or an empty optional if the complete content should be returned
+     */
+    static Optional<ByteRange> parse(final String header, final long size) {
+        if (header == null) {
+            return Optional.empty();
+        }
+        final Matcher matcher = SINGLE_RANGE.matcher(header.trim());
+        if (!matcher.matches()) {
+            return Optional.empty();
+        }
+        final String first = matcher.group(1);
+        final String last = matcher.group(2);
+        try {
+            if (first.isEmpty()) {
+                if (last.isEmpty()) {
+                    return Optional.empty();
+                }
+                //suffix range like 'bytes=-500' for the last 500 bytes
+                final long suffixLength = Long.parseLong(last);
+                if (suffixLength == 0) {
+                    return Optional.of(new ByteRange(size, size - 1, size));
+                }
+                return Optional.of(new ByteRange(Math.max(0, size - suffixLength), size - 1, size));
+            }
+            final long start = Long.parseLong(first);
+            final long end = last.isEmpty() ? size - 1 : Math.min(Long.parseLong(last), size - 1);
+            if (!last.isEmpty() && Long.parseLong(last) < start) {
+                //syntactically invalid ranges are ignored
+                return Optional.empty();
+            }
+            return Optional.of(new ByteRange(start, end, size));
+        } catch (final NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * @return false if the range does not overlap the content, the request must be answered with status 416
+     */
+    boolean isSatisfiable() {
+        return start < size && start <= end;
+    }
+
+    long getStart() {
+        return start;
+    }
+
+    long getLength() {
+        return end - start + 1;
+    }
+
+    /**
+     * @return value of the {@code Content-Range} header of the response
+     */
+    String toContentRange() {
+        if (!isSatisfiable()) {
+            return "bytes */" + size;
+        }
+        return "bytes " + start + "-" + end + "/" + size;
+    }
+}
@@ -2,66 +2,391 @@ package net.adoptium.documentationservices.api;
 
 import net.adoptium.documentationservices.api.schema.ContributorInfo;
 import net.adoptium.documentationservices.api.schema.DocumentInfo;
+import net.adoptium.documentationservices.api.schema.DocumentMetadataInfo;
+import net.adoptium.documentationservices.api.schema.DocumentRequestInfo;
+import net.adoptium.documentationservices.api.schema.DocumentationSummaryInfo;
 import net.adoptium.documentationservices.api.schema.LanguageInfo;
+import net.adoptium.documentationservices.api.schema.SearchResultInfo;
+import net.adoptium.documentationservices.api.schema.TableOfContentsInfo;
 import net.adoptium.documentationservices.model.Document;
 import net.adoptium.documentationservices.model.Documentation;
+import net.adoptium.documentationservices.model.SearchResult;
+import net.adoptium.documentationservices.model.TableOfContents;
 import net.adoptium.documentationservices.services.DocumentationService;
+import net.adoptium.documentationservices.services.DocumentationSnapshot;
+import net.adoptium.documentationservices.services.RepoSnapshot;
+import net.adoptium.documentationservices.util.EncodedContent;
 import net.adoptium.documentationservices.util.LocaleUtils;
 import org.eclipse.microprofile.openapi.annotations.Operation;
 import org.eclipse.microprofile.openapi.annotations.parameters.Parameter;
 
 import javax.inject.Inject;
+import javax.json.bind.Jsonb;
+import javax.json.bind.JsonbBuilder;
+import javax.ws.rs.Consumes;
+import javax.ws.rs.DefaultValue;
 import javax.ws.rs.GET;
+import javax.ws.rs.POST;
 import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Request;
+import javax.ws.rs.core.Response;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.format.DateTimeFormatter;
+import java.util.Date;
+import java.util.List;
 import java.util.Locale;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.Deflater;
 
 @Path("/api")
 public class DocumentationEndpoint {
 
+    private static final String UTF_8 = "UTF-8";
+
+    private static final Jsonb JSONB = JsonbBuilder.create();
+
+    /**
+     * Maximum number of documents of a batch request
+     */
+    private static final int MAX_BATCH_SIZE = 50;
+
+    /**
+     * Maximum time to write all documents of a batch request, documents that are not available in time are written as
+     * errors
+     */
+    private static final Duration BATCH_TIMEOUT = Duration.ofSeconds(30);
+
+    /**
+     * Maximum number of results of a search
+     */
+    private static final int MAX_SEARCH_RESULTS = 50;
+
     @Inject
     private DocumentationService documentationService;
 
+    @Context
+    private Request request;
+
+    @Context
+    private HttpHeaders httpHeaders;
+
+    public DocumentationEndpoint() {
+    }
+
+    DocumentationEndpoint(final DocumentationService documentationService, final Request request, final HttpHeaders httpHeaders) {
+        this.documentationService = documentationService;
+        this.request = request;
+        this.httpHeaders = httpHeaders;
+    }
+
+    @GET
+    @Path("/toc")
+    @Produces(MediaType.APPLICATION_JSON)
+    @Operation(summary = "returns the table of contents", description = "this returns all available documentations with the titles of their documents, their languages and contributors")
+    public Response getTableOfContents() {
+        return createEncodedResponse(List.of("toc"), MediaType.APPLICATION_JSON_TYPE.withCharset(UTF_8), HttpHeaders.ACCEPT_ENCODING,
+                documentations -> Optional.of(() -> documentations.getResponse("toc",
+                        () -> EncodedContent.of(JSONB.toJson(createTableOfContentsInfo(documentations))))));
+    }
+
+    @GET
+    @Path("/search")
+    @Produces(MediaType.APPLICATION_JSON)
+    @Operation(summary = "searches all documents", description = "this returns the documents in the given language that contain the words of the query, ordered by their relevance")
+    public Response search(@Parameter(description = "The words to search for", required = true, example = "install") @QueryParam("q") final String query,
+                           @Parameter(description = "Iso code of language", example = "en") @QueryParam("lang") @DefaultValue(DocumentationService.EN_ISO_CODE) final String languageIsoCode,
+                           @Parameter(description = "Maximum number of results", example = "10") @QueryParam("limit") @DefaultValue("10") final int limit) {
+        if (query == null || query.isBlank() || limit < 1 || limit > MAX_SEARCH_RESULTS) {
+            return Response.status(Response.Status.BAD_REQUEST).build();
+        }
+        final Locale locale;
+        try {
+            locale = LocaleUtils.getBasedOnIsoCode(languageIsoCode);
+        } catch (final IllegalArgumentException e) {
+            return Response.status(Response.Status.BAD_REQUEST).build();
+        }
+        return createEncodedResponse(List.of("search", query, locale.toLanguageTag(), Integer.toString(limit)),
+                MediaType.APPLICATION_JSON_TYPE.withCharset(UTF_8), HttpHeaders.ACCEPT_ENCODING,
+                //created per request, so it is only compressed if the client accepts gzip and with a fast level
+                documentations -> Optional.of(() -> EncodedContent.of(JSONB.toJson(documentations.search(query, locale, limit).stream()
+                        .map(DocumentationEndpoint::createSearchResultInfo)
+                        .collect(Collectors.toList())), Deflater.BEST_SPEED)));
+    }
+
+    @POST
+    @Path("/batch")
+    @Consumes(MediaType.APPLICATION_JSON)
+    @Produces(BatchResponse.MEDIA_TYPE)
+    @Operation(summary = "returns several documents with all metadata", description = "this returns the document objects for the given ids and iso codes as newline delimited JSON. The documents are provided in parallel and each line is written as soon as its document is available, so the order of the lines can differ from the order of the request")
+    public Response getDocumentations(@Parameter(description = "The requested documents", required = true) final List<DocumentRequestInfo> documentRequests) {
+        if (documentRequests == null || documentRequests.isEmpty() || documentRequests.size() > MAX_BATCH_SIZE
+                || documentRequests.stream().anyMatch(r -> r == null || r.getDocumentationId() == null || r.getLanguageIsoCode() == null)) {
+            return Response.status(Response.Status.BAD_REQUEST).build();
+        }
+        final Optional<DocumentationSnapshot> currentDocumentations = documentationService.getDocumentationSnapshot();
+        if (currentDocumentations.isEmpty()) {
+            return Response.status(Response.Status.SERVICE_UNAVAILABLE).build();
+        }
+        //all documents of the batch are taken from the same snapshot
+        final DocumentationSnapshot documentations = currentDocumentations.get();
+        return Response.ok(new BatchResponse(documentRequests, BATCH_TIMEOUT, r -> documentationService.supplyBatchAsync(() -> {
+                    try {
+                        final Documentation documentation = findDocumentation(documentations, r.getDocumentationId(), r.getLanguageIsoCode())
+                                .orElseThrow(() -> new IllegalArgumentException("Unknown document " + r.getDocumentationId() + "/" + r.getLanguageIsoCode()));
+                        return getDocumentInfoContent(documentations, documentation, r.getLanguageIsoCode());
+                    } catch (final IOException e) {
+                        throw new UncheckedIOException("Can not get documentation", e);
+                    }
+                })), BatchResponse.MEDIA_TYPE)
+                .cacheControl(ResponseCaching.cacheControl())
+                .build();
+    }
+
     @GET
     @Path("/{documentationId}")
     @Produces(MediaType.APPLICATION_JSON)
-    @Operation(summary = "returns document with all metadata", description = "this returns the document object for the given id in a language based on the request")
-    public DocumentInfo getDocumentation(@Parameter(description = "Name of the document", required = true, example = "installation") @PathParam("documentationId") final String documentationId) {
-        //TODO: Get language based on request (header) - see https://github.com/adoptium/documentation-services/issues/7
-        final String languageIsoCode = "en";
-        return getDocumentation(documentationId, languageIsoCode);
+    @Operation(summary = "returns document with all metadata", description = "this returns the document object for the given id in a language based on the Accept-Language header of the request")
+    public Response getDocumentation(@Parameter(description = "Name of the document", required = true, example = "installation") @PathParam("documentationId") final String documentationId) {
+        final Optional<DocumentationSnapshot> currentDocumentations = documentationService.getDocumentationSnapshot();
+        if (currentDocumentations.isEmpty()) {
+            return Response.status(Response.Status.SERVICE_UNAVAILABLE).build();
+        }
+        //the documentation is needed to select the language the validators are based on, a cached documentation does
+        //not render any document for that
+        final Optional<Documentation> documentation;
+        try {
+            documentation = currentDocumentations.get().findDocumentation(documentationId);
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Can not get documentation", e);
+        }
+        if (documentation.isEmpty()) {
+            return Response.status(Response.Status.NOT_FOUND).build();
+        }
+        final Document document = AcceptLanguage.selectDocument(httpHeaders.getHeaderString(HttpHeaders.ACCEPT_LANGUAGE), documentation.get());
+        final String languageIsoCode = document.getLocale().toLanguageTag();
+        return createEncodedResponse(currentDocumentations.get(), List.of(documentationId, languageIsoCode, "json"), MediaType.APPLICATION_JSON_TYPE.withCharset(UTF_8),
+                HttpHeaders.ACCEPT_ENCODING + ", " + HttpHeaders.ACCEPT_LANGUAGE,
+                documentations -> Optional.of(() -> getDocumentInfoContent(documentations, documentation.get(), languageIsoCode)));
     }
 
     @GET
     @Path("/{documentationId}/{languageIsoCode}")
     @Produces(MediaType.APPLICATION_JSON)
     @Operation(summary = "returns document with all metadata", description = "this returns the document object for the given id in a language based on the given iso code")
-    public DocumentInfo getDocumentation(@Parameter(description = "Name of the document", required = true, example = "installation") @PathParam("documentationId") final String documentationId,
-                                         @Parameter(description = "Iso code of language", required = true, example = "en") @PathParam("languageIsoCode") final String languageIsoCode) {
+    public Response getDocumentation(@Parameter(description = "Name of the document", required = true, example = "installation") @PathParam("documentationId") final String documentationId,
+                                     @Parameter(description = "Iso code of language", required = true, example = "en") @PathParam("languageIsoCode") final String languageIsoCode) {
+        return createEncodedResponse(List.of(documentationId, languageIsoCode, "json"), MediaType.APPLICATION_JSON_TYPE.withCharset(UTF_8),
+                HttpHeaders.ACCEPT_ENCODING, documentations -> findDocumentation(documentations, documentationId, languageIsoCode)
+                        .map(documentation -> () -> getDocumentInfoContent(documentations, documentation, languageIsoCode)));
+    }
+
+    @GET
+    @Path("/{documentationId}/{languageIsoCode}/html")
+    @Produces(MediaType.TEXT_HTML)
+    @Operation(summary = "returns the rendered content of a document", description = "this returns the rendered html fragment of the document for the given id in a language based on the given iso code")
+    public Response getHtmlContent(@Parameter(description = "Name of the document", required = true, example = "installation") @PathParam("documentationId") final String documentationId,
+                                   @Parameter(description = "Iso code of language", required = true, example = "en") @PathParam("languageIsoCode") final String languageIsoCode) {
+        return createEncodedResponse(List.of(documentationId, languageIsoCode, "html"), MediaType.TEXT_HTML_TYPE.withCharset(UTF_8),
+                HttpHeaders.ACCEPT_ENCODING, documentations -> findDocumentation(documentations, documentationId, languageIsoCode)
+                        .map(documentation -> () -> getDocument(documentation, languageIsoCode).getEncodedHtmlContent()));
+    }
+
+    @GET
+    @Path("/{documentationId}/{languageIsoCode}/metadata")
+    @Produces(MediaType.APPLICATION_JSON)
+    @Operation(summary = "returns the metadata of a document", description = "this returns the metadata of the document for the given id in a language based on the given iso code without the content of the document")
+    public Response getMetadata(@Parameter(description = "Name of the document", required = true, example = "installation") @PathParam("documentationId") final String documentationId,
+                                @Parameter(description = "Iso code of language", required = true, example = "en") @PathParam("languageIsoCode") final String languageIsoCode) {
+        return createEncodedResponse(List.of(documentationId, languageIsoCode, "metadata"), MediaType.APPLICATION_JSON_TYPE.withCharset(UTF_8),
+                HttpHeaders.ACCEPT_ENCODING, documentations -> findDocumentation(documentations, documentationId, languageIsoCode)
+                        .map(documentation -> () -> documentations.getResponse("metadata/" + documentationId + "/" + languageIsoCode,
+                                () -> EncodedContent.of(JSONB.toJson(createMetadataInfo(documentation, languageIsoCode, documentations.getRepoSnapshot()))))));
+    }
+
+    private EncodedContent getDocumentInfoContent(final DocumentationSnapshot documentations, final Documentation documentation, final String languageIsoCode) {
+        return documentations.getResponse("document/" + documentation.getId() + "/" + languageIsoCode,
+                () -> EncodedContent.of(JSONB.toJson(createDocumentInfo(documentation, languageIsoCode, documentations.getRepoSnapshot()))));
+    }
+
+    /**
+     * Finds the documentation of a document. The english document of the documentation is used if there is no document
+     * in the given language (see {@link Documentation#getDocument(Locale)}).
+     *
+     * @return the documentation or an empty optional if the documentation does not exist or the iso code is not valid
+     */
+    private static Optional<Documentation> findDocumentation(final DocumentationSnapshot documentations, final String documentationId,
+                                                             final String languageIsoCode) throws IOException {
+        try {
+            LocaleUtils.getBasedOnIsoCode(languageIsoCode);
+        } catch (final IllegalArgumentException e) {
+            return Optional.empty();
+        }
+        return documentations.findDocumentation(documentationId);
+    }
+
+    private Response createEncodedResponse(final List<String> entityTagParts, final MediaType mediaType, final String vary,
+                                           final DocumentationFunction<DocumentationSnapshot, Optional<DocumentationSupplier<EncodedContent>>> contentResolver) {
+        final Optional<DocumentationSnapshot> documentations = documentationService.getDocumentationSnapshot();
+        if (documentations.isEmpty()) {
+            return Response.status(Response.Status.SERVICE_UNAVAILABLE).build();
+        }
+        return createEncodedResponse(documentations.get(), entityTagParts, mediaType, vary, contentResolver);
+    }
+
+    /**
+     * Creates a response that writes precomputed bytes. The validators and the content are taken from the same
+     * documentations, so they always belong together. Requests for content that does not exist are answered with
+     * {@code 404} and conditional requests are answered before the content is created. The gzip compressed variant is
+     * used if the client accepts it.
+     *
+     * @param documentations  the documentations the content is taken from
+     * @param entityTagParts  identify the content in the snapshot
+     * @param vary            the request headers the response depends on
+     * @param contentResolver checks if the content exists and provides it
+     */
+    private Response createEncodedResponse(final DocumentationSnapshot documentations, final List<String> entityTagParts,
+                                           final MediaType mediaType, final String vary,
+                                           final DocumentationFunction<DocumentationSnapshot, Optional<DocumentationSupplier<EncodedContent>>> contentResolver) {
+        final RepoSnapshot snapshot = documentations.getRepoSnapshot();
+        final Optional<DocumentationSupplier<EncodedContent>> contentProvider;
+        try {
+            contentProvider = contentResolver.apply(documentations);
+        } catch (Exception e) {
+            throw new RuntimeException("Can not get documentation", e);
+        }
+        if (contentProvider.isEmpty()) {
+            return Response.status(Response.Status.NOT_FOUND).build();
+        }
+        final boolean gzip = AcceptEncoding.acceptsGzip(httpHeaders.getHeaderString(HttpHeaders.ACCEPT_ENCODING));
+        final EntityTag entityTag = ResponseCaching.entityTag(snapshot,
+                Stream.concat(entityTagParts.stream(), Stream.of(gzip ? AcceptEncoding.GZIP : "")).toArray(String[]::new));
+        final Date lastModified = ResponseCaching.lastModified(snapshot);
+        final Response.ResponseBuilder notModified = request.evaluatePreconditions(lastModified, entityTag);
+        if (notModified != null) {
+            return notModified.cacheControl(ResponseCaching.cacheControl())
+                    .header(HttpHeaders.VARY, vary)
+                    .build();
+        }
+        final EncodedContent content;
         try {
-            final Locale locale = LocaleUtils.getBasedOnIsoCode(languageIsoCode);
-            final Documentation documentation = documentationService.getDocumentation(documentationId);
-            final Document document = documentation.getDocument(locale);
-            final Set<LanguageInfo> supportedLanguages = documentation.getDocuments()
-                    .map(doc -> new LanguageInfo(doc.getLocale().getISO3Language(), doc.getLocale().getDisplayLanguage(locale), languageIsoCode))
-                    .collect(Collectors.toSet());
-            final Set<ContributorInfo> contributors = documentation.getContributors()
-                    .map(c -> new ContributorInfo(c.getName(), c.getName(), c.getGithubAvatar()))
-                    .collect(Collectors.toSet());
-            final DocumentInfo documentInfo = new DocumentInfo();
-            documentInfo.setId(documentation.getId());
-            documentInfo.setTitle(document.getTitle());
-            documentInfo.setHtmlContent(document.getHtmlContent());
-            documentInfo.setLanguageIsoCode(languageIsoCode);
-            documentInfo.setSupportedLanguages(supportedLanguages);
-            documentInfo.setContributors(contributors);
-            return documentInfo;
+            content = contentProvider.get().get();
         } catch (Exception e) {
             throw new RuntimeException("Can not get documentation", e);
         }
+        final Optional<byte[]> gzipContent = gzip ? content.getGzipContent() : Optional.empty();
+        final Response.ResponseBuilder builder = Response.ok(gzipContent.orElse(content.getContent()), mediaType)
+                .tag(entityTag)
+                .lastModified(lastModified)
+                .cacheControl(ResponseCaching.cacheControl())
+                .header(HttpHeaders.VARY, vary);
+        if (gzipContent.isPresent()) {
+            builder.header(HttpHeaders.CONTENT_ENCODING, AcceptEncoding.GZIP);
+        }
+        return builder.build();
+    }
+
+    private static SearchResultInfo createSearchResultInfo(final SearchResult searchResult) {
+        final SearchResultInfo searchResultInfo = new SearchResultInfo();
+        searchResultInfo.setDocumentationId(searchResult.getDocumentationId());
+        searchResultInfo.setLanguageIsoCode(searchResult.getLocale().toLanguageTag());
+        searchResultInfo.setTitle(searchResult.getTitle());
+        searchResultInfo.setSnippet(searchResult.getSnippet());
+        searchResultInfo.setScore(searchResult.getScore());
+        return searchResultInfo;
+    }
+
+    private TableOfContentsInfo createTableOfContentsInfo(final DocumentationSnapshot documentations) {
+        try {
+            final TableOfContents tableOfContents = documentations.getTableOfContents();
+            final TableOfContentsInfo tableOfContentsInfo = new TableOfContentsInfo();
+            tableOfContentsInfo.setLastUpdate(formatLastUpdate(documentations.getRepoSnapshot()));
+            tableOfContentsInfo.setDocumentations(tableOfContents.getDocumentations()
+                    .map(DocumentationEndpoint::createDocumentationSummaryInfo)
+                    .collect(Collectors.toList()));
+            return tableOfContentsInfo;
+        } catch (Exception e) {
+            throw new RuntimeException("Can not get table of contents", e);
+        }
+    }
+
+    private static DocumentationSummaryInfo createDocumentationSummaryInfo(final Documentation documentation) {
+        final DocumentationSummaryInfo summaryInfo = new DocumentationSummaryInfo();
+        summaryInfo.setId(documentation.getId());
+        documentation.getDocuments().forEach(document -> summaryInfo.getTitles().put(document.getLocale().toLanguageTag(), document.getTitle()));
+        summaryInfo.setSupportedLanguages(getSupportedLanguages(documentation, Locale.ENGLISH, DocumentationService.EN_ISO_CODE));
+        summaryInfo.setContributors(getContributors(documentation));
+        return summaryInfo;
+    }
+
+    private static DocumentMetadataInfo createMetadataInfo(final Documentation documentation, final String languageIsoCode, final RepoSnapshot snapshot) {
+        final Locale locale = LocaleUtils.getBasedOnIsoCode(languageIsoCode);
+        final Document document = documentation.getDocument(locale);
+        final DocumentMetadataInfo metadataInfo = new DocumentMetadataInfo();
+        metadataInfo.setId(documentation.getId());
+        metadataInfo.setTitle(document.getTitle());
+        metadataInfo.setLanguageIsoCode(languageIsoCode);
+        metadataInfo.setLastUpdate(formatLastUpdate(snapshot));
+        metadataInfo.setSupportedLanguages(getSupportedLanguages(documentation, locale, languageIsoCode));
+        metadataInfo.setContributors(getContributors(documentation));
+        return metadataInfo;
+    }
+
+    private static DocumentInfo createDocumentInfo(final Documentation documentation, final String languageIsoCode, final RepoSnapshot snapshot) {
+        final Locale locale = LocaleUtils.getBasedOnIsoCode(languageIsoCode);
+        final Document document = documentation.getDocument(locale);
+        final DocumentInfo documentInfo = new DocumentInfo();
+        documentInfo.setId(documentation.getId());
+        documentInfo.setTitle(document.getTitle());
+        documentInfo.setHtmlContent(document.getHtmlContent());
+        documentInfo.setLanguageIsoCode(languageIsoCode);
+        documentInfo.setLastUpdate(formatLastUpdate(snapshot));
+        documentInfo.setSupportedLanguages(getSupportedLanguages(documentation, locale, languageIsoCode));
+        documentInfo.setContributors(getContributors(documentation));
+        return documentInfo;
+    }
+
+    /**
+     * The content of a snapshot has been changed by the commit it is based on, not by its download
+     */
+    private static String formatLastUpdate(final RepoSnapshot snapshot) {
+        return snapshot.getLastModified().format(DateTimeFormatter.ISO_OFFSET_DATE_TIME);
+    }
+
+    private static Document getDocument(final Documentation documentation, final String languageIsoCode) {
+        return documentation.getDocument(LocaleUtils.getBasedOnIsoCode(languageIsoCode));
+    }
+
+    private static Set<LanguageInfo> getSupportedLanguages(final Documentation documentation, final Locale locale, final String languageIsoCode) {
+        return documentation.getDocuments()
+                .map(doc -> new LanguageInfo(doc.getLocale().getISO3Language(), doc.getLocale().getDisplayLanguage(locale), languageIsoCode))
+                .collect(Collectors.toSet());
+    }
+
+    private static Set<ContributorInfo> getContributors(final Documentation documentation) {
+        return documentation.getContributors()
+                .map(c -> new ContributorInfo(c.getName(), c.getName(), c.getGithubAvatar()))
+                .collect(Collectors.toSet());
+    }
+
+    @FunctionalInterface
+    private interface DocumentationFunction<T, R> {
+        R apply(T value) throws Exception;
+    }
+
+    @FunctionalInterface
+    private interface DocumentationSupplier<R> {
+        R get() throws Exception;
     }
 }
@@ -0,0 +1,105 @@
+package net.adoptium.documentationservices.api;
+
+import net.adoptium.documentationservices.services.RepoUpdateScheduler;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.openapi.annotations.Operation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.inject.Inject;
+import javax.json.Json;
+import javax.json.JsonException;
+import javax.json.JsonObject;
+import javax.json.JsonReader;
+import javax.ws.rs.Consumes;
+import javax.ws.rs.HeaderParam;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import java.io.ByteArrayInputStream;
+
+/**
+ * Receives webhook deliveries of GitHub. A push to the default branch of the documentation repository triggers a
+ * refresh of the local content, pushes to other repositories are rejected. The endpoint is only active if the environment variable {@code GITHUB_WEBHOOK_SECRET}
+ * contains the secret of the webhook.
+ */
+@Path("/api/hooks")
+public class GitHubWebhookEndpoint {
+
+    private static final Logger LOG = LoggerFactory.getLogger(GitHubWebhookEndpoint.class);
+
+    private static final String PUSH_EVENT = "push";
+
+    private static final String PING_EVENT = "ping";
+
+    private static final String BRANCH_REF_PREFIX = "refs/heads/";
+
+    private final String secret;
+
+    @Inject
+    @ConfigProperty(name = "documentation.repositoryName")
+    private String repositoryName;
+
+    @Inject
+    private RepoUpdateScheduler updateScheduler;
+
+    public GitHubWebhookEndpoint() {
+        this.secret = System.getenv("GITHUB_WEBHOOK_SECRET");
+    }
+
+    GitHubWebhookEndpoint(final String secret, final String repositoryName, final RepoUpdateScheduler updateScheduler) {
+        this.secret = secret;
+        this.repositoryName = repositoryName;
+        this.updateScheduler = updateScheduler;
+    }
+
+    @POST
+    @Path("/github")
+    @Consumes(MediaType.APPLICATION_JSON)
+    @Operation(summary = "receives GitHub webhooks", description = "a push to the default branch of the documentation repository triggers a refresh of the documentations")
+    public Response onEvent(@HeaderParam("X-GitHub-Event") final String event,
+                            @HeaderParam("X-Hub-Signature-256") final String signature,
+                            final byte[] payload) {
+        if (secret == null || secret.isBlank()) {
+            return Response.status(Response.Status.NOT_FOUND).build();
+        }
+        if (payload == null || !GitHubWebhookSignature.isValid(secret, payload, signature)) {
+            LOG.warn("Webhook delivery with invalid signature rejected");
+            return Response.status(Response.Status.FORBIDDEN).build();
+        }
+        if (PING_EVENT.equals(event)) {
+            return Response.noContent().build();
+        }
+        if (!PUSH_EVENT.equals(event)) {
+            LOG.debug("Ignoring webhook event '{}'", event);
+            return Response.noContent().build();
+        }
+
+        final String ref;
+        final String fullName;
+        final String defaultBranch;
+        try (JsonReader reader = Json.createReader(new ByteArrayInputStream(payload))) {
+            final JsonObject push = reader.readObject();
+            ref = push.getString("ref", "");
+            final JsonObject repository = push.getJsonObject("repository");
+            fullName = repository.getString("full_name", null);
+            defaultBranch = repository.getString("default_branch", null);
+        } catch (final JsonException | ClassCastException | NullPointerException e) {
+            LOG.warn("Can not parse push event", e);
+            return Response.status(Response.Status.BAD_REQUEST).build();
+        }
+        //GitHub treats repository names case insensitive
+        if (!repositoryName.equalsIgnoreCase(fullName)) {
+            LOG.warn("Push to repository '{}' rejected, only pushes to '{}' are handled", fullName, repositoryName);
+            return Response.status(Response.Status.BAD_REQUEST).build();
+        }
+        if (defaultBranch == null || !ref.equals(BRANCH_REF_PREFIX + defaultBranch)) {
+            LOG.debug("Ignoring push to '{}'", ref);
+            return Response.noContent().build();
+        }
+        LOG.info("Push to '{}' received, refreshing repository", ref);
+        updateScheduler.requestRefresh();
+        return Response.accepted().build();
+    }
+}
@@ -0,0 +1,62 @@
+package net.adoptium.documentationservices.api;
+
+import net.adoptium.documentationservices.util.HashUtils;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.InvalidKeyException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Objects;
+
+/**
+ * Verifies the {@code X-Hub-Signature-256} header that GitHub sends with each webhook delivery. The header contains the
+ * HMAC (SHA-256) of the payload, created with the secret of the webhook.
+ */
+class GitHubWebhookSignature {
+
+    private static final String ALGORITHM = "HmacSHA256";
+
+    private static final String PREFIX = "sha256=";
+
+    private GitHubWebhookSignature() {
+    }
+
+    /**
+     * Checks if the given signature matches the payload.
+     *
+     * @param secret    secret of the webhook
+     * @param payload   the payload as sent by GitHub
+     * @param signature content of the {@code X-Hub-Signature-256} header, can be {@code null}
+     * @return true if the signature is valid
+     */
+    static boolean isValid(final String secret, final byte[] payload, final String signature) {
+        Objects.requireNonNull(secret, "secret must not be null");
+        Objects.requireNonNull(payload, "payload must not be null");
+        if (signature == null || !signature.startsWith(PREFIX)) {
+            return false;
+        }
+        final byte[] expected = sign(secret, payload).getBytes(StandardCharsets.US_ASCII);
+        final byte[] actual = signature.getBytes(StandardCharsets.US_ASCII);
+        //constant time comparison to not leak information about the expected signature
+        return MessageDigest.isEqual(expected, actual);
+    }
+
+    /**
+     * Creates the signature of the given payload in the format of the {@code X-Hub-Signature-256} header.
+     *
+     * @param secret  secret of the webhook
+     * @param payload the payload
+     * @return the signature
+     */
+    static String sign(final String secret, final byte[] payload) {
+        try {
+            final Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM));
+            return PREFIX + HashUtils.toHex(mac.doFinal(payload));
+        } catch (final NoSuchAlgorithmException | InvalidKeyException e) {
+            throw new IllegalStateException("Can not create " + ALGORITHM + " signature", e);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package net.adoptium.documentationservices.api;
+
+import javax.ws.rs.core.MediaType;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Media types of the static resources of the documentation repository based on their file extension. HTML and
+ * JavaScript files are served as {@code application/octet-stream}: the resources are served from the origin of the
+ * service, so a browser must not run scripts that are part of the repository.
+ */
+class MediaTypes {
+
+    private static final String UTF_8 = "UTF-8";
+
+    private static final Map<String, MediaType> MEDIA_TYPES_BY_EXTENSION = Map.ofEntries(
+            Map.entry("png", new MediaType("image", "png")),
+            Map.entry("jpg", new MediaType("image", "jpeg")),
+            Map.entry("jpeg", new MediaType("image", "jpeg")),
+            Map.entry("gif", new MediaType("image", "gif")),
+            Map.entry("webp", new MediaType("image", "webp")),
+            Map.entry("avif", new MediaType("image", "avif")),
+            Map.entry("ico", new MediaType("image", "x-icon")),
+            Map.entry("svg", new MediaType("image", "svg+xml", UTF_8)),
+            Map.entry("css", new MediaType("text", "css", UTF_8)),
+            Map.entry("json", MediaType.APPLICATION_JSON_TYPE.withCharset(UTF_8)),
+            Map.entry("xml", MediaType.APPLICATION_XML_TYPE.withCharset(UTF_8)),
+            Map.entry("txt", MediaType.TEXT_PLAIN_TYPE.withCharset(UTF_8)),
+            Map.entry("md", new MediaType("text", "markdown", UTF_8)),
+            Map.entry("adoc", new MediaType("text", "asciidoc", UTF_8)),
+            Map.entry("pdf", new MediaType("application", "pdf")),
+            Map.entry("zip", new MediaType("application", "zip")),
+            Map.entry("woff", new MediaType("font", "woff")),
+            Map.entry("woff2", new MediaType("font", "woff2")),
+            Map.entry("ttf", new MediaType("font", "ttf")),
+            Map.entry("otf", new MediaType("font", "otf")),
+            Map.entry("mp4", new MediaType("video", "mp4")),
+            Map.entry("webm", new MediaType("video", "webm"))
+    );
+
+    private MediaTypes() {
+    }
+
+    /**
+     * Returns the media type of the given file.
+     *
+     * @param fileName name (or path) of the file
+     * @return the media type, {@code application/octet-stream} if the type of the file is not known
+     */
+    static MediaType forFile(final String fileName) {
+        Objects.requireNonNull(fileName, "fileName must not be null");
+        final int index = fileName.lastIndexOf('.');
+        if (index < 0 || index < fileName.lastIndexOf('/')) {
+            return MediaType.APPLICATION_OCTET_STREAM_TYPE;
+        }
+        final String extension = fileName.substring(index + 1).toLowerCase(Locale.ROOT);
+        return MEDIA_TYPES_BY_EXTENSION.getOrDefault(extension, MediaType.APPLICATION_OCTET_STREAM_TYPE);
+    }
+}
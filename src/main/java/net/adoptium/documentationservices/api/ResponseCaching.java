@@ -0,0 +1,83 @@
+package net.adoptium.documentationservices.api;
+
+import net.adoptium.documentationservices.services.RepoSnapshot;
+import net.adoptium.documentationservices.util.HashUtils;
+
+import javax.ws.rs.core.CacheControl;
+import javax.ws.rs.core.EntityTag;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * Creates the HTTP cache validators of responses. All content of the service is derived from a {@link RepoSnapshot},
+ * so the validators are based on the commit the content of the snapshot has been taken from. Snapshots of the same
+ * commit (like the snapshots of different instances or of a restart) have the same validators.
+ */
+class ResponseCaching {
+
+    /**
+     * Time in seconds clients and CDNs can use a response without revalidating it
+     */
+    private static final int MAX_AGE_IN_SEC = 60;
+
+    private ResponseCaching() {
+    }
+
+    /**
+     * Creates a strong entity tag for content of the given snapshot. The tag is based on the revision of the snapshot,
+     * only snapshots with an unknown revision fall back to their local id.
+     *
+     * @param snapshot the snapshot the content is taken from
+     * @param parts    values that identify the content in the snapshot (like the id and language of a documentation)
+     * @return the entity tag
+     */
+    static EntityTag entityTag(final RepoSnapshot snapshot, final String... parts) {
+        Objects.requireNonNull(snapshot, "snapshot must not be null");
+        final String version = snapshot.getRevision().orElse("snapshot-" + snapshot.getId());
+        final String[] values = Stream.concat(Stream.of(version), Stream.of(parts))
+                .toArray(String[]::new);
+        return new EntityTag(HashUtils.hash(values));
+    }
+
+    /**
+     * Creates a strong entity tag for a file. The tag is based on the content of the file, so it only changes if the
+     * file has been changed.
+     *
+     * @param contentHash hash of the content of the file
+     * @param parts       values that identify the representation of the file (like the content encoding)
+     * @return the entity tag
+     */
+    static EntityTag contentEntityTag(final String contentHash, final String... parts) {
+        Objects.requireNonNull(contentHash, "contentHash must not be null");
+        if (parts.length == 0) {
+            return new EntityTag(contentHash);
+        }
+        final String[] values = Stream.concat(Stream.of(contentHash), Stream.of(parts))
+                .toArray(String[]::new);
+        return new EntityTag(HashUtils.hash(values));
+    }
+
+    /**
+     * Returns the last modification of content of the given snapshot (the time of its commit). HTTP dates only have a
+     * precision of seconds, so the time is truncated to be comparable with {@code If-Modified-Since} headers.
+     *
+     * @param snapshot the snapshot the content is taken from
+     * @return the last modification
+     */
+    static Date lastModified(final RepoSnapshot snapshot) {
+        Objects.requireNonNull(snapshot, "snapshot must not be null");
+        return Date.from(snapshot.getLastModified().toInstant().truncatedTo(ChronoUnit.SECONDS));
+    }
+
+    /**
+     * @return the cache control for content that changes with each snapshot
+     */
+    static CacheControl cacheControl() {
+        final CacheControl cacheControl = new CacheControl();
+        cacheControl.setMaxAge(MAX_AGE_IN_SEC);
+        cacheControl.setNoTransform(false);
+        return cacheControl;
+    }
+}
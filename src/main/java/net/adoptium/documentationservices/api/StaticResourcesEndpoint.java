@@ -1,34 +1,235 @@
 package net.adoptium.documentationservices.api;
 
 import net.adoptium.documentationservices.services.RepoService;
+import net.adoptium.documentationservices.services.RepoSnapshot;
+import org.eclipse.microprofile.openapi.annotations.Operation;
+import org.eclipse.microprofile.openapi.annotations.parameters.Parameter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import javax.inject.Inject;
 import javax.ws.rs.GET;
-import javax.ws.rs.Path;
+import javax.ws.rs.HEAD;
+import javax.ws.rs.HeaderParam;
 import javax.ws.rs.PathParam;
-import javax.ws.rs.core.MediaType;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.CacheControl;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.Request;
 import javax.ws.rs.core.Response;
-import java.nio.file.Paths;
+import javax.ws.rs.core.StreamingOutput;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.ref.Cleaner;
+import java.nio.channels.Channel;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Date;
+import java.util.Optional;
 
-@Path("/resources")
+@javax.ws.rs.Path("/resources")
 public class StaticResourcesEndpoint {
 
+    private static final Logger LOG = LoggerFactory.getLogger(StaticResourcesEndpoint.class);
+
+    /**
+     * Closes the files of responses whose content has never been written
+     */
+    private static final Cleaner CLEANER = Cleaner.create();
+
+    private static final String ACCEPT_RANGES = "Accept-Ranges";
+
+    private static final String CONTENT_RANGE = "Content-Range";
+
+    private static final String IF_RANGE = "If-Range";
+
+    /**
+     * Prevents browsers from treating a resource as HTML or script based on its content
+     */
+    private static final String CONTENT_TYPE_OPTIONS = "X-Content-Type-Options";
+
+    /**
+     * Time in seconds clients can cache resources that are requested for a specific revision of the repository
+     */
+    private static final int IMMUTABLE_MAX_AGE_IN_SEC = 365 * 24 * 60 * 60;
+
     @Inject
     private RepoService repoService;
 
+    @Context
+    private Request request;
+
     @GET
-    @Path("{path:.*}")
-    public Response getResource(@PathParam("path") String path) {
-        final MediaType mediaType;
-        if (path.endsWith(".png")) {
-            mediaType = new MediaType("image", "png");
-        } else if (path.endsWith(".svg")) {
-            mediaType = new MediaType("image", "svg+xml");
-        } else {
-            mediaType = MediaType.WILDCARD_TYPE;
+    @javax.ws.rs.Path("{path:.*}")
+    @Operation(summary = "returns a file of the documentation repository", description = "supports conditional and range requests. If the 'v' query parameter is the current revision of the repository the response can be cached forever")
+    public Response getResource(@PathParam("path") final String path,
+                                @Parameter(description = "Revision of the repository") @QueryParam("v") final String version,
+                                @HeaderParam("Range") final String range,
+                                @HeaderParam(IF_RANGE) final String ifRange,
+                                @HeaderParam(HttpHeaders.ACCEPT_ENCODING) final String acceptEncoding) {
+        return createResponse(path, version, range, ifRange, acceptEncoding, true);
+    }
+
+    @HEAD
+    @javax.ws.rs.Path("{path:.*}")
+    public Response getResourceHead(@PathParam("path") final String path,
+                                    @QueryParam("v") final String version,
+                                    @HeaderParam(HttpHeaders.ACCEPT_ENCODING) final String acceptEncoding) {
+        return createResponse(path, version, null, null, acceptEncoding, false);
+    }
+
+    private Response createResponse(final String path, final String version, final String range, final String ifRange,
+                                    final String acceptEncoding, final boolean withContent) {
+        final Optional<RepoSnapshot> acquiredSnapshot = repoService.acquireCurrentSnapshot();
+        if (acquiredSnapshot.isEmpty()) {
+            return Response.status(Response.Status.NOT_FOUND).build();
+        }
+        final RepoSnapshot snapshot = acquiredSnapshot.get();
+        //the file is opened while the snapshot is acquired, an open file stays readable after the snapshot is deleted
+        FileChannel channel = null;
+        try {
+            final Optional<Path> originalFile;
+            final Optional<Path> gzipFile;
+            try {
+                originalFile = snapshot.resolveFile(Path.of(path));
+                gzipFile = snapshot.resolveCompressedFile(Path.of(path));
+            } catch (final InvalidPathException e) {
+                return Response.status(Response.Status.NOT_FOUND).build();
+            }
+            if (originalFile.isEmpty()) {
+                return Response.status(Response.Status.NOT_FOUND).build();
+            }
+            //the compressed variant has been created ahead of time while the snapshot was downloaded
+            final boolean gzip = gzipFile.isPresent() && AcceptEncoding.acceptsGzip(acceptEncoding);
+            final Path file = gzip ? gzipFile.get() : originalFile.get();
+            final String contentHash = snapshot.getContentHash(originalFile.get());
+            final EntityTag entityTag = gzip ? ResponseCaching.contentEntityTag(contentHash, AcceptEncoding.GZIP) : ResponseCaching.contentEntityTag(contentHash);
+            final Date lastModified = ResponseCaching.lastModified(snapshot);
+            final CacheControl cacheControl = isCurrentRevision(snapshot, version) ? immutableCacheControl() : ResponseCaching.cacheControl();
+            final Response.ResponseBuilder notModified = request.evaluatePreconditions(lastModified, entityTag);
+            if (notModified != null) {
+                if (gzipFile.isPresent()) {
+                    notModified.header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+                }
+                return notModified.cacheControl(cacheControl).build();
+            }
+
+            final long size = Files.size(file);
+            //a range is only valid for the version of the resource the client already has
+            final Optional<ByteRange> byteRange = ByteRange.parse(range, size)
+                    .filter(r -> ifRange == null || ifRange.equals(entityTag.toString()));
+            if (byteRange.isPresent() && !byteRange.get().isSatisfiable()) {
+                return Response.status(Response.Status.REQUESTED_RANGE_NOT_SATISFIABLE)
+                        .header(CONTENT_RANGE, byteRange.get().toContentRange())
+                        .build();
+            }
+            final long start = byteRange.map(r -> r.getStart()).orElse(0L);
+            final long length = byteRange.map(r -> r.getLength()).orElse(size);
+            final Response.ResponseBuilder builder = byteRange
+                    .map(r -> Response.status(Response.Status.PARTIAL_CONTENT).header(CONTENT_RANGE, r.toContentRange()))
+                    .orElseGet(() -> Response.ok());
+            builder.type(MediaTypes.forFile(path))
+                    .tag(entityTag)
+                    .lastModified(lastModified)
+                    .cacheControl(cacheControl)
+                    .header(ACCEPT_RANGES, "bytes")
+                    .header(CONTENT_TYPE_OPTIONS, "nosniff")
+                    .header(HttpHeaders.CONTENT_LENGTH, length);
+            if (gzipFile.isPresent()) {
+                builder.header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            }
+            if (gzip) {
+                builder.header(HttpHeaders.CONTENT_ENCODING, AcceptEncoding.GZIP);
+            }
+            if (withContent) {
+                channel = FileChannel.open(file, StandardOpenOption.READ);
+                builder.entity(new FileRegion(channel, file, start, length));
+                channel = null;
+            }
+            return builder.build();
+        } catch (final IOException e) {
+            throw new IllegalStateException("Can not provide resource " + path, e);
+        } finally {
+            if (channel != null) {
+                closeQuietly(channel);
+            }
+            snapshot.release();
+        }
+    }
+
+    private static void closeQuietly(final Channel channel) {
+        try {
+            channel.close();
+        } catch (final IOException e) {
+            LOG.debug("Can not close channel", e);
+        }
+    }
+
+    private static boolean isCurrentRevision(final RepoSnapshot snapshot, final String version) {
+        return version != null && snapshot.getRevision().map(revision -> revision.equals(version)).orElse(false);
+    }
+
+    /**
+     * The content of a revision never changes, so it can be cached as long as possible
+     */
+    private static CacheControl immutableCacheControl() {
+        final CacheControl cacheControl = new CacheControl();
+        cacheControl.setMaxAge(IMMUTABLE_MAX_AGE_IN_SEC);
+        cacheControl.setNoTransform(false);
+        cacheControl.getCacheExtension().put("immutable", null);
+        return cacheControl;
+    }
+
+    /**
+     * Streams a part of an open file with {@link FileChannel#transferTo(long, long, WritableByteChannel)}, so the
+     * content is not copied through buffers on the heap. The file is closed once the content has been written, or
+     * once the region is garbage collected if the content is never written (like for an aborted request).
+     */
+    private static class FileRegion implements StreamingOutput {
+
+        private final FileChannel channel;
+
+        private final Path file;
+
+        private final long start;
+
+        private final long length;
+
+        private final Cleaner.Cleanable cleanable;
+
+        private FileRegion(final FileChannel channel, final Path file, final long start, final long length) {
+            this.channel = channel;
+            this.file = file;
+            this.start = start;
+            this.length = length;
+            //the cleaning action must not reference the region, otherwise the region never becomes unreachable
+            this.cleanable = CLEANER.register(this, () -> closeQuietly(channel));
+        }
+
+        @Override
+        public void write(final OutputStream output) throws IOException {
+            try {
+                final WritableByteChannel target = Channels.newChannel(output);
+                long position = start;
+                long remaining = length;
+                while (remaining > 0) {
+                    final long transferred = channel.transferTo(position, remaining, target);
+                    if (transferred <= 0) {
+                        throw new IOException("Unexpected end of " + file);
+                    }
+                    position += transferred;
+                    remaining -= transferred;
+                }
+            } finally {
+                cleanable.clean();
+            }
         }
-        return repoService.readFile(Paths.get(path))
-                .map(inputStream -> Response.ok().entity(inputStream).type(mediaType).build())
-                .orElseGet(() -> Response.status(Response.Status.NOT_FOUND).build());
     }
 }
@@ -20,7 +20,7 @@ public class DocumentInfo {
     @Schema(required = true, example = "<div class=\"paragraph\">content</div>", description = "in html rendered content of the document")
     private String htmlContent;
 
-    @Schema(required = true, example = "TODO", description = "Last update of the document")
+    @Schema(required = true, example = "2021-10-01T12:00:00+02:00", description = "Last update of the document")
     private String lastUpdate;
 
     @Schema(required = true, description = "supported languages of the document")
@@ -0,0 +1,76 @@
+package net.adoptium.documentationservices.api.schema;
+
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+
+import java.util.HashSet;
+import java.util.Set;
+
+@Schema(description = "POJO that represents the metadata of a translated document without its content.")
+public class DocumentMetadataInfo {
+
+    @Schema(required = true, example = "32126319", description = "technical id of the document")
+    private String id;
+
+    @Schema(required = true, example = "en", description = "iso-XXX based 2 char language code of the document")
+    private String languageIsoCode;
+
+    @Schema(required = true, example = "How to install Temurin", description = "title of the document")
+    private String title;
+
+    @Schema(required = true, example = "2021-10-01T12:00:00+02:00", description = "Last update of the document")
+    private String lastUpdate;
+
+    @Schema(required = true, description = "supported languages of the document")
+    private Set<LanguageInfo> supportedLanguages = new HashSet<>();
+
+    @Schema(required = true, description = "All contributors of the document")
+    private Set<ContributorInfo> contributors = new HashSet<>();
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(final String id) {
+        this.id = id;
+    }
+
+    public String getLanguageIsoCode() {
+        return languageIsoCode;
+    }
+
+    public void setLanguageIsoCode(final String languageIsoCode) {
+        this.languageIsoCode = languageIsoCode;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(final String title) {
+        this.title = title;
+    }
+
+    public String getLastUpdate() {
+        return lastUpdate;
+    }
+
+    public void setLastUpdate(final String lastUpdate) {
+        this.lastUpdate = lastUpdate;
+    }
+
+    public Set<LanguageInfo> getSupportedLanguages() {
+        return supportedLanguages;
+    }
+
+    public void setSupportedLanguages(final Set<LanguageInfo> supportedLanguages) {
+        this.supportedLanguages = supportedLanguages;
+    }
+
+    public Set<ContributorInfo> getContributors() {
+        return contributors;
+    }
+
+    public void setContributors(final Set<ContributorInfo> contributors) {
+        this.contributors = contributors;
+    }
+}
@@ -0,0 +1,37 @@
+package net.adoptium.documentationservices.api.schema;
+
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+
+@Schema(description = "POJO that represents a requested document of a batch request.")
+public class DocumentRequestInfo {
+
+    @Schema(required = true, example = "installation", description = "technical id of the documentation")
+    private String documentationId;
+
+    @Schema(required = true, example = "en", description = "iso-XXX based 2 char language code of the document")
+    private String languageIsoCode;
+
+    public DocumentRequestInfo() {
+    }
+
+    public DocumentRequestInfo(final String documentationId, final String languageIsoCode) {
+        this.documentationId = documentationId;
+        this.languageIsoCode = languageIsoCode;
+    }
+
+    public String getDocumentationId() {
+        return documentationId;
+    }
+
+    public void setDocumentationId(final String documentationId) {
+        this.documentationId = documentationId;
+    }
+
+    public String getLanguageIsoCode() {
+        return languageIsoCode;
+    }
+
+    public void setLanguageIsoCode(final String languageIsoCode) {
+        this.languageIsoCode = languageIsoCode;
+    }
+}
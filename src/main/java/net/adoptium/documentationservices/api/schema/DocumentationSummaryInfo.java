@@ -0,0 +1,56 @@
+package net.adoptium.documentationservices.api.schema;
+
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+@Schema(description = "POJO that represents a documentation in the table of contents without the content of its documents.")
+public class DocumentationSummaryInfo {
+
+    @Schema(required = true, example = "installation", description = "technical id of the documentation")
+    private String id;
+
+    @Schema(required = true, example = "{\"en\": \"How to install Temurin\", \"de\": \"Temurin installieren\"}", description = "titles of the documents by the iso code of their language")
+    private Map<String, String> titles = new TreeMap<>();
+
+    @Schema(required = true, description = "supported languages of the documentation")
+    private Set<LanguageInfo> supportedLanguages = new HashSet<>();
+
+    @Schema(required = true, description = "All contributors of the documentation")
+    private Set<ContributorInfo> contributors = new HashSet<>();
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(final String id) {
+        this.id = id;
+    }
+
+    public Map<String, String> getTitles() {
+        return titles;
+    }
+
+    public void setTitles(final Map<String, String> titles) {
+        this.titles = titles;
+    }
+
+    public Set<LanguageInfo> getSupportedLanguages() {
+        return supportedLanguages;
+    }
+
+    public void setSupportedLanguages(final Set<LanguageInfo> supportedLanguages) {
+        this.supportedLanguages = supportedLanguages;
+    }
+
+    public Set<ContributorInfo> getContributors() {
+        return contributors;
+    }
+
+    public void setContributors(final Set<ContributorInfo> contributors) {
+        this.contributors = contributors;
+    }
+}
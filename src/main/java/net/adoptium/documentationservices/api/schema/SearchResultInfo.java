@@ -0,0 +1,62 @@
+package net.adoptium.documentationservices.api.schema;
+
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+
+@Schema(description = "POJO that represents a document that matches a search query.")
+public class SearchResultInfo {
+
+    @Schema(required = true, example = "installation", description = "technical id of the documentation")
+    private String documentationId;
+
+    @Schema(required = true, example = "en", description = "iso-XXX based 2 char language code of the document")
+    private String languageIsoCode;
+
+    @Schema(required = true, example = "How to install Temurin", description = "title of the document")
+    private String title;
+
+    @Schema(required = true, example = "...the installer adds Temurin to the PATH...", description = "part of the document that contains a searched word")
+    private String snippet;
+
+    @Schema(required = true, example = "3.14", description = "relevance of the document for the query, higher is better")
+    private double score;
+
+    public String getDocumentationId() {
+        return documentationId;
+    }
+
+    public void setDocumentationId(final String documentationId) {
+        this.documentationId = documentationId;
+    }
+
+    public String getLanguageIsoCode() {
+        return languageIsoCode;
+    }
+
+    public void setLanguageIsoCode(final String languageIsoCode) {
+        this.languageIsoCode = languageIsoCode;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(final String title) {
+        this.title = title;
+    }
+
+    public String getSnippet() {
+        return snippet;
+    }
+
+    public void setSnippet(final String snippet) {
+        this.snippet = snippet;
+    }
+
+    public double getScore() {
+        return score;
+    }
+
+    public void setScore(final double score) {
+        this.score = score;
+    }
+}
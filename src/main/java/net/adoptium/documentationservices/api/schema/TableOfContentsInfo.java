@@ -0,0 +1,32 @@
+package net.adoptium.documentationservices.api.schema;
+
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Schema(description = "POJO that represents the table of contents with all available documentations.")
+public class TableOfContentsInfo {
+
+    @Schema(required = true, example = "2021-10-01T12:00:00+02:00", description = "Last update of the documentations")
+    private String lastUpdate;
+
+    @Schema(required = true, description = "All available documentations ordered by their id")
+    private List<DocumentationSummaryInfo> documentations = new ArrayList<>();
+
+    public String getLastUpdate() {
+        return lastUpdate;
+    }
+
+    public void setLastUpdate(final String lastUpdate) {
+        this.lastUpdate = lastUpdate;
+    }
+
+    public List<DocumentationSummaryInfo> getDocumentations() {
+        return documentations;
+    }
+
+    public void setDocumentations(final List<DocumentationSummaryInfo> documentations) {
+        this.documentations = documentations;
+    }
+}
@@ -1,47 +1,68 @@
 package net.adoptium.documentationservices.model;
 
+import net.adoptium.documentationservices.adoc.RenderedDocument;
+import net.adoptium.documentationservices.util.EncodedContent;
 import net.adoptium.documentationservices.util.LocaleUtils;
 
+import java.util.Collections;
 import java.util.Locale;
 import java.util.Objects;
+import java.util.function.Supplier;
 
 /**
  * A single document in a specific language. This is normally based on exactly one adoc file.
+ * The content of a document can be rendered lazily: in that case the adoc file is only rendered the first time the
+ * title or the content of the document is requested.
  */
 public class Document {
 
     /**
-     * The translated title of the document in the given locale
+     * The locale that defines the language of the document (country is not used for now).
      */
-    private final String title;
+    private final Locale locale;
 
     /**
-     * The locale that defines the language of the document (country is not used for now).
+     * Identifies the sources of the document (like the path of the adoc file), {@code null} if the content of the
+     * document has been provided directly
      */
-    private final Locale locale;
+    private final String source;
+
+    /**
+     * Provides the content of the document. Will be called at most once.
+     */
+    private final Supplier<RenderedDocument> renderer;
 
-    private final String htmlContent;
+    /**
+     * The rendered content (contains the translated title of the document in the given locale)
+     */
+    private volatile RenderedDocument renderedDocument;
 
     public Document(final String title, final String isoCode, final String htmlContent) {
-        this.title = Objects.requireNonNull(title, "name must not be null");
-        this.htmlContent = Objects.requireNonNull(htmlContent, "htmlContent must not be null");
-        if (title.isBlank()) {
-            throw new IllegalArgumentException("Name must not be blank!");
-        }
-        this.locale = LocaleUtils.getBasedOnIsoCode(isoCode);
+        this(title, LocaleUtils.getBasedOnIsoCode(Objects.requireNonNull(isoCode, "isoCode must not be null")), htmlContent);
     }
 
     public Document(final String title, final Locale locale, final String htmlContent) {
-        this.title = Objects.requireNonNull(title, "name must not be null");
-        this.htmlContent = Objects.requireNonNull(title, "htmlContent must not be null");
-        if (title.isBlank()) {
-            throw new IllegalArgumentException("Name must not be blank!");
-        }
+        this.renderedDocument = validate(new RenderedDocument(title, Collections.emptyMap(), Objects.requireNonNull(htmlContent, "htmlContent must not be null")));
+        this.locale = Objects.requireNonNull(locale, "locale must not be null");
+        this.source = null;
+        this.renderer = () -> renderedDocument;
+    }
+
+    /**
+     * Creates a document whose content will be rendered the first time it is needed.
+     *
+     * @param locale   the locale of the document
+     * @param source   identifies the sources of the document, like the path of the adoc file
+     * @param renderer provides the rendered content of the document
+     */
+    public Document(final Locale locale, final String source, final Supplier<RenderedDocument> renderer) {
         this.locale = Objects.requireNonNull(locale, "locale must not be null");
+        this.source = Objects.requireNonNull(source, "source must not be null");
+        this.renderer = Objects.requireNonNull(renderer, "renderer must not be null");
     }
 
     public String getTitle() {
-        return title;
+        return getRenderedDocument().getTitle();
     }
 
     public Locale getLocale() {
@@ -49,19 +70,69 @@ public class Document {
     }
 
     public String getHtmlContent() {
-        return htmlContent;
+        return getRenderedDocument().getHtmlContent();
     }
 
+    /**
+     * Returns the rendered content as UTF-8 and gzip compressed bytes.
+     *
+     * @return the encoded content
+     */
+    public EncodedContent getEncodedHtmlContent() {
+        return getRenderedDocument().getEncodedHtmlContent();
+    }
+
+    /**
+     * Returns true if the content of the document is already rendered.
+     *
+     * @return true if title and content can be accessed without rendering
+     */
+    public boolean isRendered() {
+        return renderedDocument != null;
+    }
+
+    private RenderedDocument getRenderedDocument() {
+        RenderedDocument result = renderedDocument;
+        if (result == null) {
+            synchronized (this) {
+                result = renderedDocument;
+                if (result == null) {
+                    result = validate(Objects.requireNonNull(renderer.get(), "renderer must provide a document"));
+                    renderedDocument = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    private static RenderedDocument validate(final RenderedDocument renderedDocument) {
+        final String title = Objects.requireNonNull(renderedDocument.getTitle(), "name must not be null");
+        if (title.isBlank()) {
+            throw new IllegalArgumentException("Name must not be blank!");
+        }
+        return renderedDocument;
+    }
+
+    /**
+     * Compares the locale and the sources of the documents, so lazily rendered documents are not rendered. Documents
+     * whose content has been provided directly are compared by that content.
+     */
     @Override
     public boolean equals(final Object o) {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         final Document document = (Document) o;
-        return title.equals(document.title) && locale.equals(document.locale) && htmlContent.equals(document.htmlContent);
+        if (!locale.equals(document.locale) || !Objects.equals(source, document.source)) {
+            return false;
+        }
+        return source != null || (getTitle().equals(document.getTitle()) && getHtmlContent().equals(document.getHtmlContent()));
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(title, locale, htmlContent);
+        if (source != null) {
+            return Objects.hash(locale, source);
+        }
+        return Objects.hash(getTitle(), locale, getHtmlContent());
     }
 }
@@ -1,9 +1,15 @@
 package net.adoptium.documentationservices.model;
 
+import net.adoptium.documentationservices.util.LocaleUtils;
+
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -21,9 +27,17 @@ public class Documentation {
     private final String id;
 
     /**
-     * Specific instances of the documentation in different languages (must contain at least 'en')
+     * Specific instances of the documentation in different languages (must contain at least 'en'), at most one
+     * document for each locale.
      */
-    private final Set<Document> documents;
+    private final List<Document> documents;
+
+    /**
+     * The documents by their locale, built once so looking up a document does not need to scan all documents
+     */
+    private final Map<Locale, Document> documentsByLocale;
+
+    private final Document englishDocument;
 
     private final Set<Contributor> contributors;
 
@@ -33,10 +47,17 @@ public class Documentation {
         if (this.id.isBlank()) {
             throw new IllegalArgumentException("ID of document must not be blank");
         }
-        this.documents = Collections.unmodifiableSet(new HashSet<>(documents));
+        this.documents = Collections.unmodifiableList(new ArrayList<>(documents));
+        final Map<Locale, Document> documentsByLocale = new HashMap<>();
+        for (final Document document : this.documents) {
+            if (documentsByLocale.putIfAbsent(document.getLocale(), document) != null) {
+                throw new IllegalArgumentException("More than one document with locale " + document.getLocale() + " provided for ID=" + id);
+            }
+        }
+        this.documentsByLocale = Collections.unmodifiableMap(documentsByLocale);
 
         //Check if at least english is present
-        getEnglishDocument();
+        this.englishDocument = findEnglishDocument();
     }
 
     public String getId() {
@@ -51,13 +72,46 @@ public class Documentation {
         return contributors.stream();
     }
 
+    /**
+     * Returns the document in the given locale. If no document exists for the locale the less specific locales of the
+     * language are tried (see {@link LocaleUtils#getFallbacks(Locale)}) before the english document is returned.
+     *
+     * @param locale the locale (can be {@code null})
+     * @return the document
+     */
     public Document getDocument(final Locale locale) {
-        return Optional.ofNullable(locale)
-                .map(l -> getDocuments().filter(d -> Objects.equals(l, d.getLocale())).findAny().orElse(null))
-                .orElse(getEnglishDocument());
+        if (locale == null) {
+            return englishDocument;
+        }
+        return findDocument(locale).orElse(englishDocument);
     }
 
-    private Document getEnglishDocument() {
+    /**
+     * Returns the document in the given locale or in a less specific locale of the same language (like {@code pt} for
+     * {@code pt-BR}). Unlike {@link #getDocument(Locale)} it does not fall back to another language.
+     *
+     * @param locale the locale
+     * @return the document or an empty optional if no document exists in the language
+     */
+    public Optional<Document> findDocument(final Locale locale) {
+        Objects.requireNonNull(locale, "locale must not be null");
+        for (final Locale fallback : LocaleUtils.getFallbacks(locale)) {
+            if (!Objects.equals(fallback.getLanguage(), locale.getLanguage())) {
+                break;
+            }
+            final Document document = documentsByLocale.get(fallback);
+            if (document != null) {
+                return Optional.of(document);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private Document findEnglishDocument() {
+        final Document document = documentsByLocale.get(Locale.ENGLISH);
+        if (document != null) {
+            return document;
+        }
         return getDocuments().filter(d -> Objects.equals(Locale.ENGLISH.getLanguage(), d.getLocale().getLanguage()))
                 .findAny()
                 .orElseThrow(() -> new IllegalStateException("No english document provided for ID=" + id));
@@ -72,11 +126,14 @@ public class Documentation {
             return false;
         }
         final Documentation that = (Documentation) o;
-        return id.equals(that.id) && documents.equals(that.documents);
+        return id.equals(that.id) && documents.size() == that.documents.size() && documents.containsAll(that.documents);
     }
 
+    /**
+     * Only based on the id to not render the content of all documents.
+     */
     @Override
     public int hashCode() {
-        return Objects.hash(id, documents);
+        return Objects.hash(id);
     }
 }
@@ -0,0 +1,54 @@
+package net.adoptium.documentationservices.model;
+
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * A document that matches a search query.
+ */
+public class SearchResult {
+
+    private final String documentationId;
+
+    private final Locale locale;
+
+    private final String title;
+
+    /**
+     * Part of the text of the document that contains a searched term
+     */
+    private final String snippet;
+
+    /**
+     * Relevance of the document for the query, higher is better
+     */
+    private final double score;
+
+    public SearchResult(final String documentationId, final Locale locale, final String title, final String snippet, final double score) {
+        this.documentationId = Objects.requireNonNull(documentationId, "documentationId must not be null");
+        this.locale = Objects.requireNonNull(locale, "locale must not be null");
+        this.title = Objects.requireNonNull(title, "title must not be null");
+        this.snippet = Objects.requireNonNull(snippet, "snippet must not be null");
+        this.score = score;
+    }
+
+    public String getDocumentationId() {
+        return documentationId;
+    }
+
+    public Locale getLocale() {
+        return locale;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getSnippet() {
+        return snippet;
+    }
+
+    public double getScore() {
+        return score;
+    }
+}
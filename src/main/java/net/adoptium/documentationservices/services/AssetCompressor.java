@@ -0,0 +1,78 @@
+package net.adoptium.documentationservices.services;
+
+import net.adoptium.documentationservices.util.GzipUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Writes gzip compressed variants of the text assets of a snapshot (like {@code image.svg.compressed.gz} next to
+ * {@code image.svg}), so they can be served compressed without compressing them per request. The variants use a suffix
+ * of their own, so they are never confused with {@code .gz} files of the repository. They are only served as variant
+ * of their asset (see {@link RepoSnapshot#resolveCompressedFile(Path)}) and not at their own path.
+ */
+class AssetCompressor {
+
+    static final String COMPRESSED_SUFFIX = ".compressed.gz";
+
+    private static final Set<String> COMPRESSIBLE_EXTENSIONS = Set.of(".svg", ".css", ".js");
+
+    private AssetCompressor() {
+    }
+
+    /**
+     * Compresses all text assets in the given directory. A compressed variant is only kept if it is smaller than the
+     * original file. Files of the repository that end with the suffix of the variants can not be served and are
+     * replaced.
+     *
+     * @param directory the directory
+     * @return the number of compressed files
+     * @throws IOException if a file can not be read or written
+     */
+    static int compress(final Path directory) throws IOException {
+        Objects.requireNonNull(directory, "directory must not be null");
+        final List<Path> assets;
+        try (Stream<Path> files = Files.walk(directory)) {
+            assets = files.filter(file -> Files.isRegularFile(file))
+                    .filter(file -> isCompressible(file))
+                    .collect(Collectors.toList());
+        }
+        int count = 0;
+        for (final Path asset : assets) {
+            final Path compressedFile = asset.resolveSibling(asset.getFileName() + COMPRESSED_SUFFIX);
+            try (OutputStream outputStream = GzipUtils.createOutputStream(Files.newOutputStream(compressedFile))) {
+                Files.copy(asset, outputStream);
+            }
+            if (Files.size(compressedFile) < Files.size(asset)) {
+                count++;
+            } else {
+                Files.delete(compressedFile);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Checks if a compressed variant should be created for the given file. Files that are compressed already (like
+     * {@code .gz} files of the repository) never match.
+     */
+    static boolean isCompressible(final Path file) {
+        final String name = file.getFileName().toString().toLowerCase(Locale.ROOT);
+        return COMPRESSIBLE_EXTENSIONS.stream().anyMatch(extension -> name.endsWith(extension));
+    }
+
+    /**
+     * Checks if the given file is a compressed variant that has been created by {@link #compress(Path)}.
+     */
+    static boolean isCompressedVariant(final Path file) {
+        return file.getFileName() != null && file.getFileName().toString().endsWith(COMPRESSED_SUFFIX);
+    }
+}
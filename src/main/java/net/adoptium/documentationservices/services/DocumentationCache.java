@@ -0,0 +1,233 @@
+package net.adoptium.documentationservices.services;
+
+import net.adoptium.documentationservices.adoc.RenderedDocument;
+import net.adoptium.documentationservices.model.Documentation;
+import net.adoptium.documentationservices.model.TableOfContents;
+import net.adoptium.documentationservices.util.EncodedContent;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory cache of rendered documentations for one {@link RepoSnapshot}.
+ * A cache is never updated for a different snapshot, it is replaced as a whole instead.
+ * Rendered documents of the previous cache are reused as long as their sources have not changed.
+ */
+class DocumentationCache {
+
+    /**
+     * The snapshot all cached documentations are based on (can be {@code null} if no snapshot was available).
+     * The cache holds a reference to the snapshot until {@link #release()} is called.
+     */
+    private final RepoSnapshot snapshot;
+
+    private final Map<String, Documentation> documentations;
+
+    /**
+     * Rendered documents by the path of their adoc file (relative to the repository root)
+     */
+    private final Map<String, RenderedSource> renderedDocuments;
+
+    /**
+     * Cache of the previous snapshot, only referenced until this cache is complete
+     */
+    private volatile DocumentationCache previousCache;
+
+    private final AtomicInteger renderCount;
+
+    private final AtomicInteger reuseCount;
+
+    private final AtomicInteger loadCount;
+
+    /**
+     * True if all documentations of the snapshot have been rendered into this cache
+     */
+    private volatile boolean complete;
+
+    /**
+     * All documentations of the snapshot, {@code null} until it has been created
+     */
+    private volatile TableOfContents tableOfContents;
+
+    /**
+     * Full-text index of all documents of the snapshot, {@code null} until it has been created
+     */
+    private volatile SearchIndex searchIndex;
+
+    /**
+     * Serialized response bodies by a key that identifies the response in the snapshot
+     */
+    private final Map<String, EncodedContent> responses;
+
+    DocumentationCache(final RepoSnapshot snapshot) {
+        this(snapshot, null);
+    }
+
+    DocumentationCache(final RepoSnapshot snapshot, final DocumentationCache previousCache) {
+        this.snapshot = snapshot;
+        this.previousCache = previousCache;
+        this.documentations = new ConcurrentHashMap<>();
+        this.renderedDocuments = new ConcurrentHashMap<>();
+        this.responses = new ConcurrentHashMap<>();
+        this.renderCount = new AtomicInteger();
+        this.reuseCount = new AtomicInteger();
+        this.loadCount = new AtomicInteger();
+    }
+
+    /**
+     * Releases the reference to the snapshot. Must be called once the cache is not used anymore.
+     */
+    void release() {
+        if (snapshot != null) {
+            snapshot.release();
+        }
+    }
+
+    boolean isComplete() {
+        return complete;
+    }
+
+    void markComplete() {
+        complete = true;
+        previousCache = null;
+    }
+
+    /**
+     * Returns the rendered document for the given adoc file if it has been rendered from sources with the given
+     * fingerprint. If this cache does not contain the document it is taken from the previous cache.
+     *
+     * @param path        path of the adoc file relative to the repository root
+     * @param fingerprint the fingerprint of the current sources
+     * @return the rendered document or an empty optional if the document must be rendered
+     */
+    Optional<RenderedDocument> getRendered(final String path, final String fingerprint) {
+        final RenderedSource renderedSource = renderedDocuments.get(path);
+        if (renderedSource != null && renderedSource.fingerprint.equals(fingerprint)) {
+            return Optional.of(renderedSource.document);
+        }
+        final DocumentationCache previous = previousCache;
+        if (previous != null) {
+            final RenderedSource previousSource = previous.renderedDocuments.get(path);
+            if (previousSource != null && previousSource.fingerprint.equals(fingerprint)) {
+                renderedDocuments.put(path, previousSource);
+                reuseCount.incrementAndGet();
+                return Optional.of(previousSource.document);
+            }
+        }
+        return Optional.empty();
+    }
+
+    void putRendered(final String path, final String fingerprint, final RenderedDocument document) {
+        renderedDocuments.put(path, new RenderedSource(fingerprint, document));
+        renderCount.incrementAndGet();
+    }
+
+    /**
+     * Adds a document that has been loaded from the {@link RenderedStore} instead of being rendered.
+     */
+    void putLoaded(final String path, final String fingerprint, final RenderedDocument document) {
+        renderedDocuments.put(path, new RenderedSource(fingerprint, document));
+        loadCount.incrementAndGet();
+    }
+
+    /**
+     * @return the fingerprints of all rendered documents by the path of their adoc file
+     */
+    Map<String, String> getFingerprints() {
+        return renderedDocuments.entrySet().stream()
+                .collect(Collectors.toMap(entry -> entry.getKey(), entry -> entry.getValue().fingerprint));
+    }
+
+    /**
+     * @return number of documents that have been rendered for this cache
+     */
+    int getRenderCount() {
+        return renderCount.get();
+    }
+
+    /**
+     * @return number of documents that have been taken from the previous cache
+     */
+    int getReuseCount() {
+        return reuseCount.get();
+    }
+
+    /**
+     * @return number of documents that have been loaded from the {@link RenderedStore}
+     */
+    int getLoadCount() {
+        return loadCount.get();
+    }
+
+    RepoSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    Optional<Documentation> get(final String documentationId) {
+        Objects.requireNonNull(documentationId, "documentationId must not be null");
+        return Optional.ofNullable(documentations.get(documentationId));
+    }
+
+    void put(final Documentation documentation) {
+        Objects.requireNonNull(documentation, "documentation must not be null");
+        documentations.put(documentation.getId(), documentation);
+    }
+
+    Optional<TableOfContents> getTableOfContents() {
+        return Optional.ofNullable(tableOfContents);
+    }
+
+    void setTableOfContents(final TableOfContents tableOfContents) {
+        this.tableOfContents = Objects.requireNonNull(tableOfContents, "tableOfContents must not be null");
+    }
+
+    Optional<SearchIndex> getSearchIndex() {
+        return Optional.ofNullable(searchIndex);
+    }
+
+    void setSearchIndex(final SearchIndex searchIndex) {
+        this.searchIndex = Objects.requireNonNull(searchIndex, "searchIndex must not be null");
+    }
+
+    /**
+     * Returns the cached response body or creates it. Responses only change with the snapshot, so each body is only
+     * serialized (and compressed) once for the cache.
+     *
+     * @param key     identifies the response in the snapshot
+     * @param factory creates the response body if it is not cached
+     * @return the response body
+     */
+    EncodedContent getResponse(final String key, final Supplier<EncodedContent> factory) {
+        Objects.requireNonNull(key, "key must not be null");
+        Objects.requireNonNull(factory, "factory must not be null");
+        final EncodedContent cachedContent = responses.get(key);
+        if (cachedContent != null) {
+            return cachedContent;
+        }
+        //not created in computeIfAbsent, creating a response can take some time
+        final EncodedContent content = Objects.requireNonNull(factory.get(), "factory must provide a content");
+        final EncodedContent existingContent = responses.putIfAbsent(key, content);
+        return existingContent != null ? existingContent : content;
+    }
+
+    int size() {
+        return documentations.size();
+    }
+
+    private static class RenderedSource {
+
+        private final String fingerprint;
+
+        private final RenderedDocument document;
+
+        private RenderedSource(final String fingerprint, final RenderedDocument document) {
+            this.fingerprint = Objects.requireNonNull(fingerprint, "fingerprint must not be null");
+            this.document = Objects.requireNonNull(document, "document must not be null");
+        }
+    }
+}
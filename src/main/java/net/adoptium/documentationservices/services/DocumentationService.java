@@ -1,69 +1,491 @@
 package net.adoptium.documentationservices.services;
 
 import net.adoptium.documentationservices.adoc.AsciiDocService;
+import net.adoptium.documentationservices.adoc.RenderedDocument;
 import net.adoptium.documentationservices.model.Contributor;
 import net.adoptium.documentationservices.model.Document;
 import net.adoptium.documentationservices.model.Documentation;
+import net.adoptium.documentationservices.model.SearchResult;
+import net.adoptium.documentationservices.model.TableOfContents;
+import net.adoptium.documentationservices.util.LocaleUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import javax.annotation.PreDestroy;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import java.io.IOException;
 import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
-import java.util.HashSet;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Singleton
 public class DocumentationService {
 
+    private static final Logger LOG = LoggerFactory.getLogger(DocumentationService.class);
+
     public static final String ADOC_FILETYPE = ".adoc";
     public static final String INDEX_FILE_PREFIX = "index_";
     public static final String DEFAULT_INDEX_ADOC_NAME = "index.adoc";
     public static final String EN_ISO_CODE = "en";
 
+    private static final String RENDERED_STORE_DIR = "rendered";
+
+    /**
+     * Maximum number of batch tasks that wait for a thread, further tasks are rejected
+     */
+    private static final int BATCH_QUEUE_CAPACITY = 200;
+
     private final RepoService repoService;
 
     private final AsciiDocService asciiDocService;
 
+    /**
+     * Documentations of the current snapshot. The cache holds a reference to its snapshot until it is replaced.
+     */
+    private final AtomicReference<DocumentationCache> cache;
+
+    /**
+     * Executor to render documents in parallel (one thread for each Asciidoctor instance)
+     */
+    private final ForkJoinPool renderExecutor;
+
+    /**
+     * Executor for the documents of batch requests. It is separate from the render executor, so batch requests never
+     * delay the rendering of a new snapshot, and its queue is bounded, so a burst of batch requests is rejected
+     * instead of piling up.
+     */
+    private final ThreadPoolExecutor batchExecutor;
+
+    /**
+     * Rendered documents and contributors of earlier runs, only used if the repository content is kept over restarts
+     */
+    private final RenderedStore renderedStore;
+
     @Inject
     public DocumentationService(final RepoService repoService, final AsciiDocService asciiDocService) {
         this.repoService = Objects.requireNonNull(repoService);
         this.asciiDocService = Objects.requireNonNull(asciiDocService);
+        this.cache = new AtomicReference<>(new DocumentationCache(repoService.acquireCurrentSnapshot().orElse(null)));
+        this.renderExecutor = new ForkJoinPool(asciiDocService.getPoolSize());
+        this.batchExecutor = new ThreadPoolExecutor(asciiDocService.getPoolSize(), asciiDocService.getPoolSize(),
+                60, TimeUnit.SECONDS, new ArrayBlockingQueue<>(BATCH_QUEUE_CAPACITY), runnable -> {
+            final Thread thread = new Thread(runnable, "documentation-batch");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.batchExecutor.allowCoreThreadTimeOut(true);
+        this.renderedStore = repoService.getPersistentDataDir()
+                .map(dataDir -> new RenderedStore(dataDir.resolve(RENDERED_STORE_DIR)))
+                .orElse(null);
+        repoService.addSnapshotListener(snapshot -> refreshCache(snapshot));
     }
 
+    /**
+     * Returns the documentation with the given id. The documentation is taken from the cache of the current snapshot
+     * and will only be created if it is not in the cache. The documents of the documentation are rendered lazily.
+     *
+     * @param documentationId id of the documentation
+     * @return the documentation
+     * @throws IOException if the documentation does not exist or can not be read
+     */
     public Documentation getDocumentation(final String documentationId) throws IOException {
-        final Path docPath = repoService.getLocalRepoPath().resolve(documentationId);
-        final Set<Document> docs = Files.list(docPath)
-                .filter(file -> file.toFile().getName().endsWith(ADOC_FILETYPE))
-                .filter(file -> file.toFile().getName().startsWith(INDEX_FILE_PREFIX))
-                .map(file -> createDocumentFromAdocFile(file))
-                .collect(Collectors.toSet());
-
-        final Set<Document> allDocs = new HashSet<>(docs);
-        allDocs.add(createDefaultDocument(documentationId));
-        
-        final Set<Contributor> contributors = repoService.getContributors(documentationId);
+        return findDocumentation(cache.get(), documentationId)
+                .orElseThrow(() -> new IOException("Unknown documentation " + documentationId));
+    }
+
+    /**
+     * Returns all documentations of the snapshot the documentations are currently taken from. The table of contents is
+     * only created once per snapshot. Documentations that can not be read are left out.
+     *
+     * @return the table of contents
+     * @throws IOException if the documentations of the repository can not be listed
+     */
+    public TableOfContents getTableOfContents() throws IOException {
+        return getTableOfContents(cache.get());
+    }
+
+    /**
+     * Searches the documents of the snapshot the documentations are currently taken from. The search index is only
+     * created once per snapshot.
+     *
+     * @param query  the query
+     * @param locale the language of the documents, the english document of a documentation is searched if it has no document in the language
+     * @param limit  maximum number of results
+     * @return the matching documents ordered by their relevance
+     * @throws IOException if the documentations of the repository can not be listed
+     */
+    public List<SearchResult> search(final String query, final Locale locale, final int limit) throws IOException {
+        return search(cache.get(), query, locale, limit);
+    }
+
+    /**
+     * Returns the documentations of the snapshot the documentations are currently taken from. This can differ from
+     * the current snapshot of the {@link RepoService} while the documentations of a new snapshot are rendered.
+     *
+     * @return the documentations or an empty optional if no content is available
+     */
+    public Optional<DocumentationSnapshot> getDocumentationSnapshot() {
+        final DocumentationCache currentCache = cache.get();
+        if (currentCache.getSnapshot() == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new DocumentationSnapshot(this, currentCache));
+    }
+
+    Optional<Documentation> findDocumentation(final DocumentationCache targetCache, final String documentationId) throws IOException {
+        Objects.requireNonNull(documentationId, "documentationId must not be null");
+        final Optional<Documentation> cachedDocumentation = targetCache.get(documentationId);
+        if (cachedDocumentation.isPresent()) {
+            return cachedDocumentation;
+        }
+        final RepoSnapshot snapshot = targetCache.getSnapshot();
+        if (snapshot == null || !snapshot.acquire()) {
+            throw new IOException("No content of the repository available");
+        }
+        final Documentation documentation;
+        try {
+            if (!isDocumentationFolder(snapshot.getPath(), documentationId)) {
+                return Optional.empty();
+            }
+            documentation = createDocumentation(targetCache, documentationId);
+        } finally {
+            snapshot.release();
+        }
+        targetCache.put(documentation);
+        return Optional.of(documentation);
+    }
+
+    TableOfContents getTableOfContents(final DocumentationCache targetCache) throws IOException {
+        final Optional<TableOfContents> cachedTableOfContents = targetCache.getTableOfContents();
+        if (cachedTableOfContents.isPresent()) {
+            return cachedTableOfContents.get();
+        }
+        final RepoSnapshot snapshot = targetCache.getSnapshot();
+        if (snapshot == null || !snapshot.acquire()) {
+            throw new IOException("No content of the repository available");
+        }
+        final List<Documentation> documentations = new ArrayList<>();
+        try {
+            for (final String documentationId : getDocumentationIds(snapshot.getPath())) {
+                final Optional<Documentation> cachedDocumentation = targetCache.get(documentationId);
+                if (cachedDocumentation.isPresent()) {
+                    documentations.add(cachedDocumentation.get());
+                    continue;
+                }
+                try {
+                    final Documentation documentation = createDocumentation(targetCache, documentationId);
+                    targetCache.put(documentation);
+                    documentations.add(documentation);
+                } catch (final Exception e) {
+                    LOG.warn("Can not create documentation '" + documentationId + "' of snapshot " + snapshot.getId(), e);
+                }
+            }
+        } finally {
+            snapshot.release();
+        }
+        final TableOfContents tableOfContents = new TableOfContents(documentations);
+        targetCache.setTableOfContents(tableOfContents);
+        return tableOfContents;
+    }
+
+    List<SearchResult> search(final DocumentationCache targetCache, final String query, final Locale locale, final int limit) throws IOException {
+        final Optional<SearchIndex> cachedSearchIndex = targetCache.getSearchIndex();
+        if (cachedSearchIndex.isPresent()) {
+            return cachedSearchIndex.get().search(query, locale, limit);
+        }
+        //concurrent searches wait for a single index instead of each building one
+        synchronized (targetCache) {
+            final Optional<SearchIndex> builtSearchIndex = targetCache.getSearchIndex();
+            if (builtSearchIndex.isPresent()) {
+                return builtSearchIndex.get().search(query, locale, limit);
+            }
+            final SearchIndex searchIndex = SearchIndex.build(getTableOfContents(targetCache).getDocumentations().collect(Collectors.toList()));
+            targetCache.setSearchIndex(searchIndex);
+            return searchIndex.search(query, locale, limit);
+        }
+    }
+
+    /**
+     * Runs a task of a batch request. The tasks run in an executor of their own with as many threads as asciidoctor
+     * instances exist, so the documents of a batch can be rendered in parallel without delaying the rendering of a
+     * new snapshot.
+     *
+     * Cancelling the returned future removes a task that has not started from the executor, so it neither runs nor
+     * takes up a place in the queue of waiting tasks.
+     *
+     * @param task the task
+     * @param <T>  type of the result
+     * @return the result of the task
+     * @throws java.util.concurrent.RejectedExecutionException if too many batch tasks are waiting
+     */
+    public <T> CompletableFuture<T> supplyBatchAsync(final Supplier<T> task) {
+        Objects.requireNonNull(task, "task must not be null");
+        final CompletableFuture<T> result = new CompletableFuture<>();
+        final FutureTask<Void> submittedTask = new FutureTask<>(() -> {
+            try {
+                result.complete(task.get());
+            } catch (final Throwable e) {
+                result.completeExceptionally(e);
+            }
+        }, null);
+        batchExecutor.execute(submittedTask);
+        result.whenComplete((value, error) -> {
+            if (result.isCancelled()) {
+                submittedTask.cancel(false);
+                batchExecutor.remove(submittedTask);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * @return number of batch tasks that wait for a thread
+     */
+    int getWaitingBatchTaskCount() {
+        return batchExecutor.getQueue().size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        batchExecutor.shutdownNow();
+        renderExecutor.shutdownNow();
+    }
+
+    /**
+     * Renders all documentations of the current snapshot in the background. The snapshot that has been downloaded or
+     * restored before the service was created never reaches the snapshot listener of the service, so this is called
+     * on startup.
+     *
+     * @return completes once the documentations are rendered
+     */
+    public CompletableFuture<Void> warmUpAsync() {
+        return CompletableFuture.runAsync(() -> warmUp()).exceptionally(e -> {
+            LOG.error("Error in rendering documentations", e);
+            return null;
+        });
+    }
+
+    /**
+     * Renders all documentations of the current snapshot if that has not been done already.
+     */
+    public void warmUp() {
+        final RepoSnapshot snapshot = repoService.getCurrentSnapshot();
+        if (snapshot != null) {
+            refreshCache(snapshot);
+        }
+    }
+
+    /**
+     * Renders all documents of all documentations of the given snapshot in parallel. The documentations are stored in
+     * a new cache that replaces the current one once all documents are rendered. Until then requests are answered
+     * based on the current cache. Refreshes are done one after another and a snapshot that has already been rendered
+     * completely is not rendered again.
+     *
+     * @param snapshot the new snapshot
+     */
+    private synchronized void refreshCache(final RepoSnapshot snapshot) {
+        final DocumentationCache currentCache = cache.get();
+        if (currentCache.isComplete() && snapshot.equals(currentCache.getSnapshot())) {
+            return;
+        }
+        final long start = System.nanoTime();
+        if (!snapshot.acquire()) {
+            LOG.info("Snapshot {} has already been replaced", snapshot.getId());
+            return;
+        }
+        final DocumentationCache newCache = new DocumentationCache(snapshot, cache.get());
+        final List<String> documentationIds;
+        try {
+            documentationIds = getDocumentationIds(snapshot.getPath());
+        } catch (final IOException e) {
+            LOG.error("Can not read documentations of snapshot " + snapshot.getId(), e);
+            newCache.release();
+            return;
+        }
+        final CompletableFuture<?>[] tasks = documentationIds.stream()
+                .map(documentationId -> CompletableFuture.runAsync(() -> prerender(documentationId, snapshot, newCache), renderExecutor))
+                .toArray(CompletableFuture[]::new);
+        CompletableFuture.allOf(tasks).join();
+        final TableOfContents tableOfContents = new TableOfContents(documentationIds.stream()
+                .map(newCache::get)
+                .flatMap(Optional::stream)
+                .collect(Collectors.toList()));
+        newCache.setTableOfContents(tableOfContents);
+        final long indexStart = System.nanoTime();
+        final SearchIndex searchIndex = SearchIndex.build(tableOfContents.getDocumentations().collect(Collectors.toList()));
+        newCache.setSearchIndex(searchIndex);
+        LOG.debug("Indexed {} documents of snapshot {} in {} ms", searchIndex.size(), snapshot.getId(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - indexStart));
+        newCache.markComplete();
+        cache.getAndSet(newCache).release();
+        if (renderedStore != null) {
+            renderedStore.retain(newCache.getFingerprints(), documentationIds, snapshot.getRevision().orElse(null));
+        }
+        LOG.info("Rendered {} documentations of snapshot {} in {} ms ({} documents rendered, {} unchanged documents reused, {} loaded from store)",
+                newCache.size(), snapshot.getId(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), newCache.getRenderCount(), newCache.getReuseCount(), newCache.getLoadCount());
+    }
 
-        return new Documentation(documentationId, allDocs, contributors);
+    private void prerender(final String documentationId, final RepoSnapshot snapshot, final DocumentationCache targetCache) {
+        final Documentation documentation;
+        try {
+            documentation = createDocumentation(targetCache, documentationId);
+        } catch (final Exception e) {
+            LOG.warn("Can not create documentation '" + documentationId + "' of snapshot " + snapshot.getId(), e);
+            return;
+        }
+        // runs in the render executor, so the documents are rendered in parallel by its threads. The content is
+        // compressed as well, after the asciidoctor instance that rendered it has been returned to the pool
+        documentation.getDocuments().parallel().forEach(document -> {
+            try {
+                document.getEncodedHtmlContent().getGzipContent();
+            } catch (final Exception e) {
+                LOG.warn("Can not render document '" + documentationId + "' (" + document.getLocale() + ") of snapshot " + snapshot.getId(), e);
+            }
+        });
+        targetCache.put(documentation);
+    }
+
+    /**
+     * Returns the ids of all documentations in the given repository folder. Each folder that contains an index.adoc
+     * file is a documentation.
+     *
+     * @param repoPath root folder of the repository
+     * @return the ids of all documentations
+     * @throws IOException if the folder can not be read
+     */
+    private List<String> getDocumentationIds(final Path repoPath) throws IOException {
+        try (Stream<Path> folders = Files.list(repoPath)) {
+            return folders.filter(folder -> Files.isRegularFile(folder.resolve(DEFAULT_INDEX_ADOC_NAME)))
+                    .map(folder -> folder.getFileName().toString())
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * Checks if the given id is a documentation of the given repository folder, see {@link #getDocumentationIds(Path)}.
+     */
+    private static boolean isDocumentationFolder(final Path repoPath, final String documentationId) {
+        final Path folder;
+        try {
+            folder = repoPath.resolve(documentationId).normalize();
+        } catch (final InvalidPathException e) {
+            return false;
+        }
+        return repoPath.equals(folder.getParent()) && Files.isRegularFile(folder.resolve(DEFAULT_INDEX_ADOC_NAME));
+    }
+
+    private Documentation createDocumentation(final DocumentationCache targetCache, final String documentationId) throws IOException {
+        final Path repoPath = targetCache.getSnapshot().getPath();
+        final Path docPath = repoPath.resolve(documentationId);
+        final List<Path> translations;
+        try (Stream<Path> files = Files.list(docPath)) {
+            translations = files.filter(file -> file.toFile().getName().endsWith(ADOC_FILETYPE))
+                    .filter(file -> file.toFile().getName().startsWith(INDEX_FILE_PREFIX))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+        // the default file is the english document, a translation with the same locale (like index_en.adoc) is ignored
+        final Map<Locale, Document> documentsByLocale = new LinkedHashMap<>();
+        final Document defaultDocument = createDocumentFromAdocFile(targetCache, repoPath, docPath.resolve(DEFAULT_INDEX_ADOC_NAME), EN_ISO_CODE);
+        documentsByLocale.put(defaultDocument.getLocale(), defaultDocument);
+        for (final Path file : translations) {
+            final Document document = createDocumentFromAdocFile(targetCache, repoPath, file);
+            if (documentsByLocale.putIfAbsent(document.getLocale(), document) != null) {
+                LOG.warn("Ignoring '{}' of documentation '{}', another file already provides the document for locale {}", file.getFileName(), documentationId, document.getLocale());
+            }
+        }
+
+        final Set<Contributor> contributors = getContributors(targetCache, documentationId);
+
+        return new Documentation(documentationId, documentsByLocale.values(), contributors);
+    }
+
+    /**
+     * Returns the contributors of the given documentation. If possible the contributors are taken from the store
+     * instead of requesting them again.
+     */
+    private Set<Contributor> getContributors(final DocumentationCache targetCache, final String documentationId) throws IOException {
+        final Optional<String> revision = targetCache.getSnapshot().getRevision();
+        if (renderedStore == null || revision.isEmpty()) {
+            return repoService.getContributors(documentationId);
+        }
+        final Optional<Set<Contributor>> storedContributors = renderedStore.loadContributors(documentationId, revision.get());
+        if (storedContributors.isPresent()) {
+            return Collections.unmodifiableSet(storedContributors.get());
+        }
+        final Set<Contributor> contributors = repoService.getContributors(documentationId);
+        renderedStore.saveContributors(documentationId, revision.get(), contributors);
+        return contributors;
     }
 
-    private Document createDocumentFromAdocFile(final Path file) {
+    private Document createDocumentFromAdocFile(final DocumentationCache targetCache, final Path repoPath, final Path file) {
         final String isoCode = file.toFile().getName().substring(6, file.toFile().getName().length() - 5);
-        return createDocumentFromAdocFile(file, isoCode);
+        return createDocumentFromAdocFile(targetCache, repoPath, file, isoCode);
     }
 
-    private Document createDocumentFromAdocFile(final Path file, final String isoCode) {
-        final String tile = asciiDocService.getTitle(file);
-        final String htmlContent = asciiDocService.convertToHtmlContent(file);
-        return new Document(tile, isoCode, htmlContent);
+    /**
+     * Creates a document for the given file. The file will only be rendered when the content of the document is needed.
+     */
+    private Document createDocumentFromAdocFile(final DocumentationCache targetCache, final Path repoPath, final Path file, final String isoCode) {
+        return new Document(LocaleUtils.getBasedOnIsoCode(isoCode), repoPath.relativize(file).toString(), () -> render(targetCache, repoPath, file));
     }
 
-    private Document createDefaultDocument(final String documentationId) {
-        final Path docPath = repoService.getLocalRepoPath().resolve(documentationId);
-        final Path defaultFile = docPath.resolve(DEFAULT_INDEX_ADOC_NAME);
-        return createDocumentFromAdocFile(defaultFile, EN_ISO_CODE);
+    /**
+     * Renders the given file. If the sources of the file have not changed the rendered document is taken from the cache
+     * or the store.
+     */
+    private RenderedDocument render(final DocumentationCache targetCache, final Path repoPath, final Path file) {
+        final String relativePath = repoPath.relativize(file).toString();
+        final RepoSnapshot snapshot = targetCache.getSnapshot();
+        //the cache might have been replaced and its snapshot deleted since the document was created
+        if (!snapshot.acquire()) {
+            throw new IllegalStateException("Snapshot " + snapshot.getId() + " is not available anymore to render " + relativePath);
+        }
+        try {
+            final String fingerprint;
+            try {
+                fingerprint = SourceFingerprint.of(file);
+            } catch (final IOException e) {
+                throw new IllegalStateException("Can not read sources of " + relativePath, e);
+            }
+            return targetCache.getRendered(relativePath, fingerprint).orElseGet(() -> {
+                if (renderedStore != null) {
+                    final Optional<RenderedDocument> storedDocument = renderedStore.loadDocument(relativePath, fingerprint);
+                    if (storedDocument.isPresent()) {
+                        targetCache.putLoaded(relativePath, fingerprint, storedDocument.get());
+                        return storedDocument.get();
+                    }
+                }
+                final RenderedDocument renderedDocument = asciiDocService.render(file);
+                targetCache.putRendered(relativePath, fingerprint, renderedDocument);
+                if (renderedStore != null) {
+                    renderedStore.saveDocument(relativePath, fingerprint, renderedDocument);
+                }
+                return renderedDocument;
+            });
+        } finally {
+            snapshot.release();
+        }
     }
 
 }
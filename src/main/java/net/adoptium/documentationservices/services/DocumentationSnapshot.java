@@ -0,0 +1,84 @@
+package net.adoptium.documentationservices.services;
+
+import net.adoptium.documentationservices.model.Documentation;
+import net.adoptium.documentationservices.model.SearchResult;
+import net.adoptium.documentationservices.model.TableOfContents;
+import net.adoptium.documentationservices.util.EncodedContent;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * The documentations of one {@link RepoSnapshot}. Everything that is taken from one instance belongs to the same
+ * snapshot, even if the documentations of a newer snapshot become available in the meantime. A request should use a
+ * single instance, so its response never mixes content of different snapshots.
+ */
+public class DocumentationSnapshot {
+
+    private final DocumentationService documentationService;
+
+    private final DocumentationCache cache;
+
+    DocumentationSnapshot(final DocumentationService documentationService, final DocumentationCache cache) {
+        this.documentationService = Objects.requireNonNull(documentationService, "documentationService must not be null");
+        this.cache = Objects.requireNonNull(cache, "cache must not be null");
+        Objects.requireNonNull(cache.getSnapshot(), "cache must be based on a snapshot");
+    }
+
+    /**
+     * @return the snapshot the documentations are taken from
+     */
+    public RepoSnapshot getRepoSnapshot() {
+        return cache.getSnapshot();
+    }
+
+    /**
+     * Returns the documentation with the given id. The documents of the documentation are rendered lazily.
+     *
+     * @param documentationId id of the documentation
+     * @return the documentation or an empty optional if the snapshot contains no documentation with the id
+     * @throws IOException if the documentation can not be read
+     */
+    public Optional<Documentation> findDocumentation(final String documentationId) throws IOException {
+        return documentationService.findDocumentation(cache, documentationId);
+    }
+
+    /**
+     * Returns all documentations of the snapshot. Documentations that can not be read are left out.
+     *
+     * @return the table of contents
+     * @throws IOException if the documentations of the repository can not be listed
+     */
+    public TableOfContents getTableOfContents() throws IOException {
+        return documentationService.getTableOfContents(cache);
+    }
+
+    /**
+     * Searches the documents of the snapshot.
+     *
+     * @param query  the query
+     * @param locale the language of the documents, the english document of a documentation is searched if it has no document in the language
+     * @param limit  maximum number of results
+     * @return the matching documents ordered by their relevance
+     * @throws IOException if the documentations of the repository can not be listed
+     */
+    public List<SearchResult> search(final String query, final Locale locale, final int limit) throws IOException {
+        return documentationService.search(cache, query, locale, limit);
+    }
+
+    /**
+     * Returns a serialized response that is based on the documentations or creates it. The responses are cached as
+     * long as the documentations, so a response is never served for a different snapshot.
+     *
+     * @param key     identifies the response in the snapshot
+     * @param factory creates the response body if it is not cached
+     * @return the response body
+     */
+    public EncodedContent getResponse(final String key, final Supplier<EncodedContent> factory) {
+        return cache.getResponse(key, factory);
+    }
+}
@@ -0,0 +1,87 @@
+package net.adoptium.documentationservices.services;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Requests the commit SHA of the default branch of a GitHub repository. Requests are conditional (based on the ETag of
+ * the last response) so that checking an unchanged repository does not count against the GitHub API rate limit.
+ */
+class GitHubHeadChecker {
+
+    /**
+     * Media type to only receive the SHA of a commit instead of the complete commit
+     */
+    private static final String SHA_MEDIA_TYPE = "application/vnd.github.v3.sha";
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient httpClient;
+
+    private final URI uri;
+
+    private final String authToken;
+
+    private String etag;
+
+    private String head;
+
+    /**
+     * @param apiUrl         base URL of the GitHub REST API
+     * @param repositoryName name of the repository (like 'adoptium/documentation')
+     * @param authToken      GitHub access token, can be {@code null}
+     */
+    GitHubHeadChecker(final String apiUrl, final String repositoryName, final String authToken) {
+        Objects.requireNonNull(apiUrl, "apiUrl must not be null");
+        Objects.requireNonNull(repositoryName, "repositoryName must not be null");
+        this.uri = URI.create(apiUrl.replaceAll("/+$", "") + "/repos/" + repositoryName + "/commits/HEAD");
+        this.authToken = authToken;
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(TIMEOUT)
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+    }
+
+    /**
+     * Returns the SHA of the last commit of the default branch. If the repository has not changed since the last call
+     * GitHub answers with '304 Not Modified' and the known SHA is returned.
+     *
+     * @return the SHA of the last commit
+     * @throws IOException if the request fails
+     */
+    synchronized String getHead() throws IOException {
+        final HttpRequest.Builder requestBuilder = HttpRequest.newBuilder(uri)
+                .timeout(TIMEOUT)
+                .header("Accept", SHA_MEDIA_TYPE)
+                .GET();
+        if (authToken != null && !authToken.isBlank()) {
+            requestBuilder.header("Authorization", "token " + authToken);
+        }
+        if (etag != null && head != null) {
+            requestBuilder.header("If-None-Match", etag);
+        }
+
+        final HttpResponse<String> response;
+        try {
+            response = httpClient.send(requestBuilder.build(), HttpResponse.BodyHandlers.ofString());
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while requesting " + uri, e);
+        }
+
+        if (response.statusCode() == 304) {
+            return head;
+        }
+        if (response.statusCode() == 200) {
+            head = response.body().trim();
+            etag = response.headers().firstValue("ETag").orElse(null);
+            return head;
+        }
+        throw new IOException("Unexpected response " + response.statusCode() + " for " + uri);
+    }
+}
@@ -0,0 +1,201 @@
+package net.adoptium.documentationservices.services;
+
+import net.adoptium.documentationservices.model.Contributor;
+import net.adoptium.documentationservices.util.HashUtils;
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.api.errors.GitAPIException;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.FileMode;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.PersonIdent;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.eclipse.jgit.revwalk.RevWalk;
+import org.eclipse.jgit.transport.RefSpec;
+import org.eclipse.jgit.treewalk.TreeWalk;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * A local (bare) clone of the documentation repository. Provides the content of the default branch and the
+ * contributors of a path based on the local commit history.
+ */
+class GitRepository {
+
+    private static final Logger LOG = LoggerFactory.getLogger(GitRepository.class);
+
+    /**
+     * Matches GitHub noreply mail addresses like {@code 12345+login@users.noreply.github.com}
+     */
+    private static final Pattern GITHUB_NOREPLY_MAIL = Pattern.compile("^(?:(\\d+)\\+)?([^@+]+)@users\\.noreply\\.github\\.com$");
+
+    private final String uri;
+
+    private final Path directory;
+
+    private volatile ObjectId head;
+
+    GitRepository(final String uri, final Path directory) {
+        this.uri = Objects.requireNonNull(uri, "uri must not be null");
+        this.directory = Objects.requireNonNull(directory, "directory must not be null");
+    }
+
+    /**
+     * Clones the repository (if not done already) or fetches all changes of the remote repository.
+     *
+     * @return the commit of the default branch
+     * @throws IOException if the repository can not be cloned or fetched
+     */
+    ObjectId update() throws IOException {
+        try (Git git = open()) {
+            git.fetch()
+                    .setRemote(Constants.DEFAULT_REMOTE_NAME)
+                    .setRefSpecs(new RefSpec("+" + Constants.R_HEADS + "*:" + Constants.R_HEADS + "*"))
+                    .setRemoveDeletedRefs(true)
+                    .call();
+            final ObjectId newHead = Optional.ofNullable(git.getRepository().resolve(Constants.HEAD))
+                    .orElseThrow(() -> new IOException("Repository " + uri + " has no HEAD"));
+            head = newHead;
+            return newHead;
+        } catch (final GitAPIException e) {
+            throw new IOException("Can not fetch repository " + uri, e);
+        }
+    }
+
+    /**
+     * Returns the commit the default branch of the remote repository points to.
+     *
+     * @return the commit or an empty optional if the remote repository has no default branch
+     * @throws IOException if the remote repository can not be reached
+     */
+    Optional<String> getRemoteHead() throws IOException {
+        try {
+            return Optional.ofNullable(Git.lsRemoteRepository()
+                            .setRemote(uri)
+                            .callAsMap()
+                            .get(Constants.HEAD))
+                    .map(ref -> ref.getObjectId().getName());
+        } catch (final GitAPIException e) {
+            throw new IOException("Can not check remote repository " + uri, e);
+        }
+    }
+
+    /**
+     * Writes all files of the last fetched commit to the given directory.
+     *
+     * @param targetDirectory the directory
+     * @throws IOException if the files can not be written
+     */
+    void export(final Path targetDirectory) throws IOException {
+        final ObjectId commitId = Objects.requireNonNull(head, "repository must be updated before export");
+        try (Git git = Git.open(directory.toFile());
+             RevWalk revWalk = new RevWalk(git.getRepository());
+             TreeWalk treeWalk = new TreeWalk(git.getRepository())) {
+            final Repository repository = git.getRepository();
+            treeWalk.addTree(revWalk.parseCommit(commitId).getTree());
+            treeWalk.setRecursive(true);
+            while (treeWalk.next()) {
+                if (!FileMode.REGULAR_FILE.equals(treeWalk.getFileMode(0)) && !FileMode.EXECUTABLE_FILE.equals(treeWalk.getFileMode(0))) {
+                    //symlinks and submodules are not part of the documentation
+                    continue;
+                }
+                final Path file = targetDirectory.resolve(treeWalk.getPathString());
+                Files.createDirectories(file.getParent());
+                try (OutputStream outputStream = Files.newOutputStream(file)) {
+                    repository.open(treeWalk.getObjectId(0)).copyTo(outputStream);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the time the given commit has been committed.
+     *
+     * @param revision the commit
+     * @return the time of the commit
+     * @throws IOException if the commit can not be read
+     */
+    ZonedDateTime getCommitTime(final String revision) throws IOException {
+        Objects.requireNonNull(revision, "revision must not be null");
+        try (Git git = Git.open(directory.toFile());
+             RevWalk revWalk = new RevWalk(git.getRepository())) {
+            final ObjectId commitId = Optional.ofNullable(git.getRepository().resolve(revision))
+                    .orElseThrow(() -> new IOException("Unknown revision " + revision));
+            final PersonIdent committer = revWalk.parseCommit(commitId).getCommitterIdent();
+            return committer.getWhen().toInstant().atZone(ZoneOffset.ofTotalSeconds(committer.getTimeZoneOffset() * 60));
+        }
+    }
+
+    /**
+     * Returns the authors of all commits up to the given revision that changed the given path.
+     *
+     * @param path     path in the repository
+     * @param revision the commit the history starts at
+     * @return the contributors
+     * @throws IOException if the history can not be read
+     */
+    Set<Contributor> getContributors(final String path, final String revision) throws IOException {
+        Objects.requireNonNull(revision, "revision must not be null");
+        try (Git git = Git.open(directory.toFile())) {
+            final ObjectId commitId = Optional.ofNullable(git.getRepository().resolve(revision))
+                    .orElseThrow(() -> new IOException("Unknown revision " + revision));
+            final Map<String, Contributor> contributors = new LinkedHashMap<>();
+            for (final RevCommit commit : git.log().add(commitId).addPath(path).call()) {
+                final Contributor contributor = toContributor(commit.getAuthorIdent());
+                contributors.putIfAbsent(contributor.getGithubId(), contributor);
+            }
+            return contributors.values().stream().collect(Collectors.toSet());
+        } catch (final GitAPIException e) {
+            throw new IOException("Can not read history of " + path, e);
+        }
+    }
+
+    private Git open() throws IOException, GitAPIException {
+        if (Files.isDirectory(directory.resolve(Constants.OBJECTS))) {
+            return Git.open(directory.toFile());
+        }
+        LOG.info("Cloning {} to {}", uri, directory);
+        return Git.cloneRepository()
+                .setURI(uri)
+                .setDirectory(directory.toFile())
+                .setBare(true)
+                .call();
+    }
+
+    /**
+     * Converts a commit author to our data model. The GitHub login is only known for GitHub noreply mail addresses,
+     * otherwise the mail address is used as id.
+     *
+     * @param author the author of a commit
+     * @return the contributor
+     */
+    static Contributor toContributor(final PersonIdent author) {
+        final String mail = author.getEmailAddress().toLowerCase(Locale.ROOT);
+        final String name = Optional.ofNullable(author.getName()).filter(n -> !n.isBlank()).orElse(mail);
+        final Matcher matcher = GITHUB_NOREPLY_MAIL.matcher(mail);
+        if (matcher.matches()) {
+            final String login = matcher.group(2);
+            final String avatar = Optional.ofNullable(matcher.group(1))
+                    .map(id -> "https://avatars.githubusercontent.com/u/" + id)
+                    .orElse("https://github.com/" + login + ".png");
+            return new Contributor(login, name, avatar);
+        }
+        return new Contributor(mail, name, "https://www.gravatar.com/avatar/" + HashUtils.md5Hex(mail) + "?d=identicon");
+    }
+}
@@ -0,0 +1,260 @@
+package net.adoptium.documentationservices.services;
+
+import net.adoptium.documentationservices.adoc.RenderedDocument;
+import net.adoptium.documentationservices.model.Contributor;
+import net.adoptium.documentationservices.util.EncodedContent;
+import net.adoptium.documentationservices.util.HashUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Stores rendered documents and contributors on disk, so they do not need to be rendered or requested again after a
+ * restart. The HTML of a document is stored as UTF-8 and gzip compressed bytes, so it does not need to be compressed
+ * again either. Rendered documents are stored by the path and the {@link SourceFingerprint fingerprint} of their sources,
+ * contributors by the documentation and the revision of the repository. Errors in reading or writing the store are
+ * logged and handled like a missing entry.
+ */
+class RenderedStore {
+
+    private static final Logger LOG = LoggerFactory.getLogger(RenderedStore.class);
+
+    /**
+     * Changes whenever the format of the stored files changes, files of other versions are ignored
+     */
+    private static final int FORMAT_VERSION = 2;
+
+    private static final String DOCUMENT_PREFIX = "document-";
+
+    private static final String CONTRIBUTORS_PREFIX = "contributors-";
+
+    private static final String FILE_SUFFIX = ".bin";
+
+    private final Path directory;
+
+    RenderedStore(final Path directory) {
+        this.directory = Objects.requireNonNull(directory, "directory must not be null");
+    }
+
+    /**
+     * Loads a rendered document.
+     *
+     * @param path        path of the adoc file relative to the repository root
+     * @param fingerprint fingerprint of the sources of the document
+     * @return the rendered document or an empty optional if the document has not been stored
+     */
+    Optional<RenderedDocument> loadDocument(final String path, final String fingerprint) {
+        return read(documentFile(path, fingerprint), in -> {
+            final String title = readString(in);
+            final int metadataSize = in.readInt();
+            final Map<String, String> metadata = new HashMap<>(metadataSize);
+            for (int i = 0; i < metadataSize; i++) {
+                metadata.put(readString(in), readString(in));
+            }
+            final byte[] htmlContent = readBytes(in);
+            return new RenderedDocument(title, metadata, EncodedContent.of(htmlContent, readBytes(in)));
+        });
+    }
+
+    /**
+     * Stores a rendered document. The content of the document is compressed if that has not been done before.
+     *
+     * @param path        path of the adoc file relative to the repository root
+     * @param fingerprint fingerprint of the sources of the document
+     * @param document    the rendered document
+     */
+    void saveDocument(final String path, final String fingerprint, final RenderedDocument document) {
+        Objects.requireNonNull(document, "document must not be null");
+        write(documentFile(path, fingerprint), out -> {
+            writeString(out, document.getTitle());
+            out.writeInt(document.getMetadata().size());
+            for (final Map.Entry<String, String> entry : document.getMetadata().entrySet()) {
+                writeString(out, entry.getKey());
+                writeString(out, entry.getValue());
+            }
+            final EncodedContent htmlContent = document.getEncodedHtmlContent();
+            writeBytes(out, htmlContent.getContent());
+            writeBytes(out, htmlContent.getGzipContent().orElse(null));
+        });
+    }
+
+    /**
+     * Loads the contributors of a documentation.
+     *
+     * @param documentationId id of the documentation
+     * @param revision        revision of the repository
+     * @return the contributors or an empty optional if the contributors have not been stored
+     */
+    Optional<Set<Contributor>> loadContributors(final String documentationId, final String revision) {
+        return read(contributorsFile(documentationId, revision), in -> {
+            final int size = in.readInt();
+            final Set<Contributor> contributors = new HashSet<>(size);
+            for (int i = 0; i < size; i++) {
+                contributors.add(new Contributor(readString(in), readString(in), readString(in)));
+            }
+            return contributors;
+        });
+    }
+
+    /**
+     * Stores the contributors of a documentation.
+     *
+     * @param documentationId id of the documentation
+     * @param revision        revision of the repository
+     * @param contributors    the contributors
+     */
+    void saveContributors(final String documentationId, final String revision, final Set<Contributor> contributors) {
+        Objects.requireNonNull(contributors, "contributors must not be null");
+        write(contributorsFile(documentationId, revision), out -> {
+            out.writeInt(contributors.size());
+            for (final Contributor contributor : contributors) {
+                writeString(out, contributor.getGithubId());
+                writeString(out, contributor.getName());
+                writeString(out, contributor.getGithubAvatar());
+            }
+        });
+    }
+
+    /**
+     * Deletes all stored entries except the given ones.
+     *
+     * @param fingerprintsByPath fingerprints of the documents that should be kept by their path
+     * @param documentationIds   ids of the documentations whose contributors should be kept
+     * @param revision           revision of the contributors that should be kept (can be {@code null})
+     */
+    void retain(final Map<String, String> fingerprintsByPath, final Collection<String> documentationIds, final String revision) {
+        final Set<Path> files = fingerprintsByPath.entrySet().stream()
+                .map(entry -> documentFile(entry.getKey(), entry.getValue()))
+                .collect(Collectors.toSet());
+        if (revision != null) {
+            documentationIds.forEach(documentationId -> files.add(contributorsFile(documentationId, revision)));
+        }
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        final List<Path> outdatedFiles;
+        try (Stream<Path> storedFiles = Files.list(directory)) {
+            outdatedFiles = storedFiles.filter(file -> !files.contains(file)).collect(Collectors.toList());
+        } catch (final IOException e) {
+            LOG.warn("Can not read rendered store " + directory, e);
+            return;
+        }
+        for (final Path file : outdatedFiles) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (final IOException e) {
+                LOG.warn("Can not delete outdated file " + file, e);
+            }
+        }
+        LOG.debug("Deleted {} outdated files of rendered store {}", outdatedFiles.size(), directory);
+    }
+
+    private Path documentFile(final String path, final String fingerprint) {
+        return directory.resolve(DOCUMENT_PREFIX + HashUtils.hash(path, fingerprint) + FILE_SUFFIX);
+    }
+
+    private Path contributorsFile(final String documentationId, final String revision) {
+        return directory.resolve(CONTRIBUTORS_PREFIX + HashUtils.hash(documentationId, revision) + FILE_SUFFIX);
+    }
+
+    private <T> Optional<T> read(final Path file, final Reader<T> reader) {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != FORMAT_VERSION) {
+                return Optional.empty();
+            }
+            return Optional.of(reader.read(in));
+        } catch (final NoSuchFileException e) {
+            return Optional.empty();
+        } catch (final IOException | RuntimeException e) {
+            LOG.warn("Can not read " + file + " of rendered store", e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Writes the file atomically, so a concurrent reader (or a restart) never sees a partly written file.
+     */
+    private void write(final Path file, final Writer writer) {
+        final Path tempFile = file.resolveSibling(file.getFileName() + "." + Thread.currentThread().getId() + ".tmp");
+        try {
+            Files.createDirectories(directory);
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+                out.writeInt(FORMAT_VERSION);
+                writer.write(out);
+            }
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (final IOException e) {
+            LOG.warn("Can not write " + file + " of rendered store", e);
+            try {
+                Files.deleteIfExists(tempFile);
+            } catch (final IOException deleteException) {
+                LOG.debug("Can not delete " + tempFile, deleteException);
+            }
+        }
+    }
+
+    /**
+     * Writes a string that can be {@code null}. Unlike {@link DataOutputStream#writeUTF(String)} the length of the
+     * string is not limited.
+     */
+    private static void writeString(final DataOutputStream out, final String value) throws IOException {
+        writeBytes(out, value == null ? null : value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String readString(final DataInputStream in) throws IOException {
+        final byte[] bytes = readBytes(in);
+        return bytes == null ? null : new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Writes a byte array that can be {@code null}.
+     */
+    private static void writeBytes(final DataOutputStream out, final byte[] value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        out.writeInt(value.length);
+        out.write(value);
+    }
+
+    private static byte[] readBytes(final DataInputStream in) throws IOException {
+        final int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        final byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return bytes;
+    }
+
+    @FunctionalInterface
+    private interface Reader<T> {
+        T read(DataInputStream in) throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface Writer {
+        void write(DataOutputStream out) throws IOException;
+    }
+}
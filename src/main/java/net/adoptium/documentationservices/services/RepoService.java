@@ -3,6 +3,8 @@ package net.adoptium.documentationservices.services;
 import net.adoptium.documentationservices.model.Contributor;
 import net.adoptium.documentationservices.util.SyncUtils;
 import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.metrics.MetricUnits;
+import org.eclipse.microprofile.metrics.annotation.Gauge;
 import org.kohsuke.github.GHCommit;
 import org.kohsuke.github.GHRepository;
 import org.kohsuke.github.GHUser;
@@ -13,7 +15,7 @@ import org.slf4j.LoggerFactory;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
-import java.io.FileOutputStream;
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.FileVisitResult;
@@ -21,21 +23,28 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.SimpleFileVisitor;
 import java.nio.file.attribute.BasicFileAttributes;
-import java.time.Duration;
-import java.time.Instant;
+import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
-import java.util.zip.ZipEntry;
-import java.util.zip.ZipInputStream;
 
 /**
- * This service provides methods to retrieve data from GitHub using the GitHub API.
+ * This service provides methods to retrieve data from GitHub using the GitHub API or a local clone of the repository.
  */
 @Singleton
 public class RepoService {
@@ -44,18 +53,86 @@ public class RepoService {
 
     private static final String ADOPTIUM_DOC_TEMP_DIR_PREFIX = "adoptium-doc";
 
+    private static final String SNAPSHOT_DIR_PREFIX = "snapshot-";
+
+    private static final String SNAPSHOT_METADATA_FILE = "snapshot.properties";
+
+    private static final String GIT_DIR_NAME = "git";
+
+    public static final String GITHUB_API_URL = "https://api.github.com";
+
     private final String repositoryName;
 
     private final GitHub github;
 
     private final Path localDataDir;
 
+    /**
+     * True if the data dir is kept over restarts
+     */
+    private final boolean persistentDataDir;
+
+    /**
+     * Serializes all changes of the local data dir. Readers never take this lock, they acquire the current snapshot.
+     */
     private final Lock dataDirLock;
 
-    private ZonedDateTime lastUpdate;
+    private final AtomicLong snapshotCounter;
+
+    private final List<Consumer<RepoSnapshot>> snapshotListeners;
+
+    /**
+     * Contributors of a GitHub user login. Kept for all snapshots to not request user details again.
+     */
+    private final Map<String, Contributor> contributorsByLogin;
+
+    private volatile RepoSnapshot currentSnapshot;
+
+    private volatile long lastRefreshDurationInMillis;
+
+    /**
+     * Contributors of each documentation in the current snapshot
+     */
+    private volatile Map<String, Set<Contributor>> contributorsByDocumentation;
+
+    private volatile GHRepository repository;
+
+    /**
+     * Local clone of the repository, only used if the repository should be cloned instead of downloaded as archive
+     */
+    private final GitRepository gitRepository;
+
+    /**
+     * Checks the last commit of the repository, only used if the repository is downloaded as archive
+     */
+    private final GitHubHeadChecker headChecker;
 
+    public RepoService(final String repositoryName) {
+        this(repositoryName, Optional.empty());
+    }
+
+    public RepoService(final String repositoryName, final Optional<String> gitUri) {
+        this(repositoryName, GITHUB_API_URL, gitUri, Optional.empty());
+    }
+
+    /**
+     * Creates the service. If the data dir contains a complete snapshot of an earlier run, that snapshot is served
+     * directly and updates are done in the background. Otherwise the repository is downloaded before the constructor
+     * returns.
+     *
+     * @param repositoryName name of the GitHub repository
+     * @param apiUrl         base URL of the GitHub REST API
+     * @param gitUri         if present the repository is cloned from this URI and contributors are taken from the local
+     *                       commit history. Otherwise the repository is downloaded as archive and contributors are
+     *                       requested from the GitHub REST API.
+     * @param dataDir        if present the content of the repository is stored in this directory and kept over restarts.
+     *                       Otherwise a temporary directory is used.
+     */
     @Inject
-    public RepoService(@ConfigProperty(name = "documentation.repositoryName") final String repositoryName) {
+    public RepoService(@ConfigProperty(name = "documentation.repositoryName") final String repositoryName,
+                       @ConfigProperty(name = "documentation.github.apiUrl") final String apiUrl,
+                       @ConfigProperty(name = "documentation.repository.gitUri") final Optional<String> gitUri,
+                       @ConfigProperty(name = "documentation.dataDir") final Optional<String> dataDir) {
         this.repositoryName = Objects.requireNonNull(repositoryName);
         final GitHubBuilder builder = new GitHubBuilder();
 
@@ -64,17 +141,46 @@ public class RepoService {
             LOG.debug("Connecting to GitHub with access token");
             builder.withOAuthToken(authToken);
         }
+        builder.withEndpoint(apiUrl);
         try {
             github = builder.build();
         } catch (final IOException e) {
             throw new RuntimeException("Can not instantiate GitHub API wrapper", e);
         }
+        this.persistentDataDir = dataDir.isPresent();
         try {
-            this.localDataDir = Files.createTempDirectory(ADOPTIUM_DOC_TEMP_DIR_PREFIX);
+            if (dataDir.isPresent()) {
+                this.localDataDir = Files.createDirectories(Path.of(dataDir.get()).toAbsolutePath());
+            } else {
+                this.localDataDir = Files.createTempDirectory(ADOPTIUM_DOC_TEMP_DIR_PREFIX);
+            }
         } catch (final IOException e) {
             throw new RuntimeException("Can not create data dir", e);
         }
+        try {
+            if (gitUri.isEmpty()) {
+                this.gitRepository = null;
+            } else if (dataDir.isPresent()) {
+                this.gitRepository = new GitRepository(gitUri.get(), Files.createDirectories(localDataDir.resolve(GIT_DIR_NAME)));
+            } else {
+                this.gitRepository = new GitRepository(gitUri.get(), Files.createTempDirectory(ADOPTIUM_DOC_TEMP_DIR_PREFIX + "-git"));
+            }
+        } catch (final IOException e) {
+            throw new RuntimeException("Can not create git dir", e);
+        }
+        this.headChecker = gitRepository == null ? new GitHubHeadChecker(apiUrl, repositoryName, authToken) : null;
         dataDirLock = new ReentrantLock();
+        snapshotCounter = new AtomicLong();
+        snapshotListeners = new CopyOnWriteArrayList<>();
+        contributorsByLogin = new ConcurrentHashMap<>();
+        contributorsByDocumentation = new ConcurrentHashMap<>();
+        try {
+            if (restoreSnapshot()) {
+                return;
+            }
+        } catch (IOException e) {
+            LOG.error("Can not restore snapshot of " + localDataDir, e);
+        }
         try {
             downloadRepositoryContent();
         } catch (IOException e) {
@@ -83,147 +189,321 @@ public class RepoService {
     }
 
     /**
-     * Checks if the last update in the repository was after the saved timestamp.
+     * Restores the last complete snapshot of the data dir. All other snapshot directories (outdated or incomplete
+     * downloads of an earlier run) are deleted. New snapshots get ids that are higher than all existing ones.
+     *
+     * @return true if a snapshot has been restored
+     * @throws IOException if the data dir can not be read
+     */
+    private boolean restoreSnapshot() throws IOException {
+        return SyncUtils.executeSynchronized(dataDirLock, () -> {
+            final Optional<SnapshotMetadata> metadata = SnapshotMetadata.read(localDataDir.resolve(SNAPSHOT_METADATA_FILE));
+            final Path restoredDirectory = metadata
+                    .map(m -> localDataDir.resolve(SNAPSHOT_DIR_PREFIX + m.getId()))
+                    .filter(directory -> Files.isDirectory(directory))
+                    .orElse(null);
+
+            final List<Path> snapshotDirectories;
+            try (Stream<Path> files = Files.list(localDataDir)) {
+                snapshotDirectories = files
+                        .filter(file -> file.getFileName().toString().startsWith(SNAPSHOT_DIR_PREFIX))
+                        .collect(Collectors.toList());
+            }
+            for (final Path directory : snapshotDirectories) {
+                try {
+                    final long id = Long.parseLong(directory.getFileName().toString().substring(SNAPSHOT_DIR_PREFIX.length()));
+                    snapshotCounter.accumulateAndGet(id, Math::max);
+                } catch (final NumberFormatException e) {
+                    LOG.debug("Ignoring id of directory {}", directory);
+                }
+                if (!directory.equals(restoredDirectory)) {
+                    deleteSnapshotDirectory(directory);
+                }
+            }
+
+            if (restoredDirectory == null) {
+                return false;
+            }
+            final SnapshotMetadata restored = metadata.get();
+            currentSnapshot = new RepoSnapshot(restored.getId(), restored.getRevision(), restored.getCommitTime(), restoredDirectory, restored.getTimestamp(), () -> deleteSnapshotDirectory(restoredDirectory));
+            LOG.info("Restored snapshot {} (revision {}) of {}", restored.getId(), restored.getRevision(), restored.getTimestamp());
+            return true;
+        });
+    }
+
+    /**
+     * Checks if the last commit of the repository differs from the commit of the current snapshot. Uses a conditional
+     * request, so checking an unchanged repository does not count against the GitHub API rate limit.
      *
-     * @return true if the last update is newer than the saved timestamp, false if not.
+     * @return true if the repository contains changes that are not part of the current snapshot, false if not.
      * @throws IOException if problems occurred accessing the local filesystem or requesting information from GitHub.
      */
     public boolean isUpdateAvailable() throws IOException {
-        final boolean updatedInLast10Seconds = Optional.ofNullable(lastUpdate)
-                .map(timestamp -> timestamp.plus(Duration.ofSeconds(10)).isAfter(ZonedDateTime.now()))
-                .orElse(false);
-
-        if (updatedInLast10Seconds) {
-            return false;
+        final RepoSnapshot snapshot = currentSnapshot;
+        if (snapshot == null) {
+            return true;
         }
-        final Instant repoLastUpdated = createGitHubRepository().getUpdatedAt().toInstant();
-        return repoLastUpdated.isAfter(lastUpdate.toInstant());
+        final String head = gitRepository != null ? gitRepository.getRemoteHead().orElse(null) : headChecker.getHead();
+        return !Objects.equals(head, snapshot.getRevision().orElse(null));
     }
 
     /**
-     * Downloads current main branch into local directory and returns directory reference.
+     * Downloads current main branch into a new local directory. Once the download is complete the new directory
+     * replaces the current snapshot. The directory of the previous snapshot will be deleted once it is not used anymore.
      *
      * @throws IOException if there were problems downloading or saving the data.
      */
     public void downloadRepositoryContent() throws IOException {
-        //Clear old content
-        clear();
-
         final ZonedDateTime timestamp = ZonedDateTime.now();
-        final Path targetDirectory = getLocalRepoPath();
-
-        SyncUtils.executeSynchronized(dataDirLock, () -> {
-
-            //Download repo content & unzip as stream
-            createGitHubRepository().readZip(input -> {
-                try (ZipInputStream zipInputStream = new ZipInputStream(input)) {
-                    ZipEntry zipEntry;
-                    while ((zipEntry = zipInputStream.getNextEntry()) != null) {
-                        final Path filePath = targetDirectory.resolve(zipEntry.getName());
-                        if (zipEntry.isDirectory()) {
-                            filePath.toFile().mkdir();
-                        } else {
-                            filePath.toFile().getParentFile().mkdirs();
-                            try (FileOutputStream fileOutputStream = new FileOutputStream(filePath.toFile())) {
-                                int len;
-                                byte[] content = new byte[1024];
-                                while ((len = zipInputStream.read(content)) > 0) {
-                                    fileOutputStream.write(content, 0, len);
-                                }
-                            }
-                        }
-                        zipInputStream.closeEntry();
-                    }
-                }
-                return null;
-            }, null);
-
-            //The ZIP contains a folder that contains the project. Based on this we need to move everything 1 level up
-            final Path zipRoot = Files.list(targetDirectory).findFirst().orElseThrow();
-            Files.walkFileTree(zipRoot, new SimpleFileVisitor<>() {
-                @Override
-                public FileVisitResult preVisitDirectory(final Path dir, final BasicFileAttributes attrs) throws IOException {
-                    if (!Objects.equals(targetDirectory, dir) && !Objects.equals(targetDirectory, dir.getParent())) {
-                        final Path newDir = targetDirectory.resolve(zipRoot.relativize(dir));
-                        Files.createDirectory(newDir);
-                    }
-                    return FileVisitResult.CONTINUE;
-                }
+        final long start = System.nanoTime();
 
-                @Override
-                public FileVisitResult visitFile(final Path file, final BasicFileAttributes attrs) throws IOException {
-                    final Path newFile = targetDirectory.resolve(zipRoot.relativize(file));
-                    Files.move(file, newFile);
-                    return FileVisitResult.CONTINUE;
+        final RepoSnapshot snapshot = SyncUtils.executeSynchronized(dataDirLock, () -> {
+            final String snapshotId = Long.toString(snapshotCounter.incrementAndGet());
+            final Path targetDirectory = Files.createDirectory(localDataDir.resolve(SNAPSHOT_DIR_PREFIX + snapshotId));
+            final String revision;
+            final ZonedDateTime commitTime;
+            try {
+                if (gitRepository != null) {
+                    revision = gitRepository.update().getName();
+                    commitTime = gitRepository.getCommitTime(revision);
+                    gitRepository.export(targetDirectory);
+                } else {
+                    revision = headChecker.getHead();
+                    commitTime = getCommitTime(revision);
+                    downloadArchive(targetDirectory, revision);
                 }
-            });
+                LOG.debug("Compressed {} assets of snapshot {}", AssetCompressor.compress(targetDirectory), snapshotId);
+            } catch (final IOException | RuntimeException e) {
+                deleteDirectory(targetDirectory);
+                throw e;
+            }
 
-            //save download time
-            lastUpdate = timestamp;
+            final RepoSnapshot newSnapshot = new RepoSnapshot(snapshotId, revision, commitTime, targetDirectory, timestamp, () -> deleteSnapshotDirectory(targetDirectory));
+            try {
+                SnapshotMetadata.of(newSnapshot).write(localDataDir.resolve(SNAPSHOT_METADATA_FILE));
+            } catch (final IOException e) {
+                LOG.error("Can not persist metadata of snapshot " + snapshotId, e);
+            }
+            final RepoSnapshot previousSnapshot = currentSnapshot;
+            contributorsByDocumentation = new ConcurrentHashMap<>();
+            currentSnapshot = newSnapshot;
+            if (previousSnapshot != null) {
+                previousSnapshot.release();
+            }
+            return newSnapshot;
         });
+        lastRefreshDurationInMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        LOG.info("Downloaded snapshot {} (revision {}) in {} ms", snapshot.getId(), snapshot.getRevision().orElse("unknown"), lastRefreshDurationInMillis);
+
+        notifySnapshotListeners(snapshot);
+    }
+
+    /**
+     * Downloads the repository as ZIP archive from GitHub and extracts it to the given directory.
+     *
+     * @param targetDirectory the directory
+     * @param revision        the commit that should be downloaded
+     * @throws IOException if there were problems downloading or saving the data.
+     */
+    private void downloadArchive(final Path targetDirectory, final String revision) throws IOException {
+        final int fileCount = getGitHubRepository().readZip(input -> new ZipExtractor(targetDirectory).extract(input), revision);
+        LOG.debug("Extracted {} files of revision {}", fileCount, revision);
+    }
+
+    /**
+     * Requests the time of the given commit from GitHub.
+     *
+     * @param revision the commit
+     * @return the time of the commit or {@code null} if GitHub does not provide it
+     * @throws IOException if the commit can not be requested
+     */
+    private ZonedDateTime getCommitTime(final String revision) throws IOException {
+        return Optional.ofNullable(getGitHubRepository().getCommit(revision).getCommitDate())
+                .map(date -> date.toInstant().atZone(ZoneOffset.UTC))
+                .orElse(null);
+    }
+
+    @Gauge(name = "repositoryRefreshDuration", absolute = true, unit = MetricUnits.MILLISECONDS, description = "Time that was needed to download and extract the last snapshot of the repository")
+    public long getLastRefreshDurationInMillis() {
+        return lastRefreshDurationInMillis;
     }
 
     /**
-     * Clears the local data dir (that holds the repo content locally)
+     * Registers a listener that is called whenever a new snapshot of the repository has been downloaded.
+     * The listener is called in the thread that executed the download.
+     *
+     * @param listener the listener
+     */
+    public void addSnapshotListener(final Consumer<RepoSnapshot> listener) {
+        snapshotListeners.add(Objects.requireNonNull(listener, "listener must not be null"));
+    }
+
+    /**
+     * Returns the snapshot of the repository that is currently stored locally. To access the content of the snapshot
+     * use {@link #acquireCurrentSnapshot()}.
+     *
+     * @return the current snapshot or {@code null} if no content is available
+     */
+    public RepoSnapshot getCurrentSnapshot() {
+        return currentSnapshot;
+    }
+
+    /**
+     * Acquires the current snapshot. The snapshot must be {@link RepoSnapshot#release() released} once its content is
+     * not accessed anymore.
+     *
+     * @return the current snapshot or an empty optional if no content is available
+     */
+    public Optional<RepoSnapshot> acquireCurrentSnapshot() {
+        while (true) {
+            final RepoSnapshot snapshot = currentSnapshot;
+            if (snapshot == null) {
+                return Optional.empty();
+            }
+            if (snapshot.acquire()) {
+                return Optional.of(snapshot);
+            }
+            //the snapshot has been replaced and released in the meantime, try again with the new one
+        }
+    }
+
+    /**
+     * Clears the local data dir (that holds the repo content locally). This removes all snapshots, even if they are
+     * still in use.
      *
      * @throws IOException
      */
     public void clear() throws IOException {
         SyncUtils.executeSynchronized(dataDirLock, () -> {
-            Files.walkFileTree(localDataDir, new SimpleFileVisitor<>() {
-                @Override
-                public FileVisitResult visitFile(final Path file, final BasicFileAttributes attrs) throws IOException {
-                    Files.delete(file);
-                    return FileVisitResult.CONTINUE;
-                }
-
-                @Override
-                public FileVisitResult postVisitDirectory(final Path dir, final IOException exc) throws IOException {
-                    if (!Objects.equals(dir, localDataDir)) {
-                        Files.delete(dir);
-                    }
-                    return FileVisitResult.CONTINUE;
-                }
-            });
-            lastUpdate = null;
+            final RepoSnapshot previousSnapshot = currentSnapshot;
+            currentSnapshot = null;
+            if (previousSnapshot != null) {
+                previousSnapshot.release();
+            }
+            deleteDirectory(localDataDir);
         });
     }
 
+    /**
+     * Opens a file of the current snapshot. The snapshot will not be deleted until the returned stream is closed.
+     *
+     * @param path path of the file relative to the repository root
+     * @return the content of the file or an empty optional if the file does not exist
+     */
     public Optional<InputStream> readFile(final Path path) {
         Objects.requireNonNull(path, "path should not be null");
-        final Path realPath = getLocalRepoPath().resolve(path);
-        if (realPath.toFile().isFile()) {
+        final Optional<RepoSnapshot> acquiredSnapshot = acquireCurrentSnapshot();
+        if (acquiredSnapshot.isEmpty()) {
+            return Optional.empty();
+        }
+        final RepoSnapshot snapshot = acquiredSnapshot.get();
+        final Optional<Path> realPath = snapshot.resolveFile(path);
+        if (realPath.isPresent()) {
             try {
-                return Optional.ofNullable(Files.newInputStream(realPath));
+                return Optional.of(new SnapshotInputStream(Files.newInputStream(realPath.get()), snapshot));
             } catch (IOException e) {
-                throw new IllegalStateException("Can nopt provide file " + path, e);
+                snapshot.release();
+                throw new IllegalStateException("Can not provide file " + path, e);
             }
         } else {
+            snapshot.release();
             return Optional.empty();
         }
     }
 
+    /**
+     * Returns all contributors of the given documentation. The contributors are only requested from GitHub once for
+     * each snapshot.
+     *
+     * @param documentationId id of the documentation
+     * @return the contributors
+     * @throws IOException if the contributors can not be requested from GitHub
+     */
     public Set<Contributor> getContributors(final String documentationId) throws IOException {
-        final GHRepository repo = createGitHubRepository();
-
-        // iterate over all files for given documentation, that way we won't miss contributors of e.g. images.
-        return repo.getDirectoryContent(documentationId).stream()
-                .filter(ghContent -> ghContent.isFile())
-                // retrieve commits for file and extract author
-                .map(ghContent -> repo.queryCommits().path(ghContent.getPath()))
-                .map(gHCommitQueryBuilder -> gHCommitQueryBuilder.list().spliterator())
-                //Convert to Stream
-                .flatMap(spliterator -> StreamSupport.stream(spliterator, false))
+        Objects.requireNonNull(documentationId, "documentationId must not be null");
+        final Map<String, Set<Contributor>> contributors = contributorsByDocumentation;
+        final Set<Contributor> cachedContributors = contributors.get(documentationId);
+        if (cachedContributors != null) {
+            return cachedContributors;
+        }
+        final Set<Contributor> documentationContributors = Collections.unmodifiableSet(requestContributors(documentationId));
+        contributors.put(documentationId, documentationContributors);
+        return documentationContributors;
+    }
+
+    private Set<Contributor> requestContributors(final String documentationId) throws IOException {
+        if (gitRepository != null) {
+            final String revision = Optional.ofNullable(currentSnapshot)
+                    .flatMap(snapshot -> snapshot.getRevision())
+                    .orElseThrow(() -> new IOException("No content of the repository available"));
+            return gitRepository.getContributors(documentationId, revision);
+        }
+        final GHRepository repo = getGitHubRepository();
+
+        // one query for the folder of the documentation, that way we won't miss contributors of e.g. images.
+        return StreamSupport.stream(repo.queryCommits().path(documentationId).list().spliterator(), false)
                 //Get Author
                 .map(commit -> getAuthor(commit))
                 .filter(user -> user != null)
                 //Convert to our data object
-                .map(author -> toContributor(author))
+                .map(author -> contributorsByLogin.computeIfAbsent(author.getLogin(), login -> toContributor(author)))
                 .collect(Collectors.toSet());
     }
 
-    public Path getLocalRepoPath() {
-        return localDataDir;
+    /**
+     * Returns the data dir if it is kept over restarts. Other services can store data that is derived from the
+     * repository content in subdirectories.
+     *
+     * @return the data dir or an empty optional if a temporary directory is used
+     */
+    public Optional<Path> getPersistentDataDir() {
+        return persistentDataDir ? Optional.of(localDataDir) : Optional.empty();
+    }
+
+    private void deleteSnapshotDirectory(final Path directory) {
+        try {
+            deleteDirectory(directory);
+            LOG.debug("Deleted snapshot directory {}", directory);
+        } catch (final IOException e) {
+            LOG.error("Can not delete snapshot directory " + directory, e);
+        }
+    }
+
+    /**
+     * Deletes the content of the given directory. The directory itself is only deleted if it is not the local data dir.
+     *
+     * @param directory the directory
+     * @throws IOException if the content can not be deleted
+     */
+    private void deleteDirectory(final Path directory) throws IOException {
+        if (!Files.exists(directory)) {
+            return;
+        }
+        Files.walkFileTree(directory, new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult visitFile(final Path file, final BasicFileAttributes attrs) throws IOException {
+                Files.delete(file);
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult postVisitDirectory(final Path dir, final IOException exc) throws IOException {
+                if (!Objects.equals(dir, localDataDir)) {
+                    Files.delete(dir);
+                }
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+
+    private void notifySnapshotListeners(final RepoSnapshot snapshot) {
+        snapshotListeners.forEach(listener -> {
+            try {
+                listener.accept(snapshot);
+            } catch (final Exception e) {
+                LOG.error("Error in handling new snapshot " + snapshot.getId(), e);
+            }
+        });
     }
 
     /**
@@ -249,12 +529,30 @@ public class RepoService {
      */
     private Contributor toContributor(final GHUser user) {
         try {
-            return new Contributor(user.getLogin(), user.getName(), user.getAvatarUrl());
+            //Not every GitHub user has a name
+            final String name = Optional.ofNullable(user.getName()).filter(n -> !n.isBlank()).orElse(user.getLogin());
+            return new Contributor(user.getLogin(), name, user.getAvatarUrl());
         } catch (IOException e) {
             throw new IllegalStateException("Failed to read GitHub user", e);
         }
     }
 
+    /**
+     * Returns a cached repository instance. Should only be used for requests that do not depend on the state of the
+     * repository instance itself.
+     *
+     * @return a repository instance
+     * @throws IOException if GitHub REST API calls end in an error
+     */
+    private GHRepository getGitHubRepository() throws IOException {
+        GHRepository result = repository;
+        if (result == null) {
+            result = createGitHubRepository();
+            repository = result;
+        }
+        return result;
+    }
+
     /**
      * Initializes GitHub connection and returns a repository instance.
      *
@@ -264,4 +562,31 @@ public class RepoService {
     private GHRepository createGitHubRepository() throws IOException {
         return github.getRepository(repositoryName);
     }
+
+    /**
+     * Stream that releases the snapshot it belongs to when it is closed.
+     */
+    private static class SnapshotInputStream extends FilterInputStream {
+
+        private final RepoSnapshot snapshot;
+
+        private final AtomicBoolean released;
+
+        private SnapshotInputStream(final InputStream inputStream, final RepoSnapshot snapshot) {
+            super(inputStream);
+            this.snapshot = snapshot;
+            this.released = new AtomicBoolean();
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                super.close();
+            } finally {
+                if (released.compareAndSet(false, true)) {
+                    snapshot.release();
+                }
+            }
+        }
+    }
 }
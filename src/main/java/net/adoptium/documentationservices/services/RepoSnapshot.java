@@ -0,0 +1,207 @@
+package net.adoptium.documentationservices.services;
+
+import net.adoptium.documentationservices.util.HashUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.ZonedDateTime;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A specific downloaded state of the documentation repository. Everything that is derived from the repository content
+ * (like rendered documents) is only valid for the snapshot it was created from.
+ * <p>
+ * The content of a snapshot is never changed. Readers must {@link #acquire() acquire} the snapshot before accessing
+ * its files and {@link #release() release} it afterwards. Once the snapshot has been replaced by a newer one and the
+ * last reader released it, its content will be deleted.
+ */
+public class RepoSnapshot {
+
+    /**
+     * Unique id of the snapshot
+     */
+    private final String id;
+
+    /**
+     * The commit the content is based on (can be {@code null} if unknown)
+     */
+    private final String revision;
+
+    /**
+     * Local directory that contains the content of the repository
+     */
+    private final Path path;
+
+    /**
+     * Time of the commit the content is based on (can be {@code null} if unknown)
+     */
+    private final ZonedDateTime commitTime;
+
+    /**
+     * Time of the download
+     */
+    private final ZonedDateTime timestamp;
+
+    /**
+     * Number of references to the snapshot. The {@link RepoService} holds one reference as long as this is the current
+     * snapshot, each reader holds one while it accesses the content.
+     */
+    private final AtomicInteger references;
+
+    /**
+     * Called once the last reference has been released
+     */
+    private final Runnable cleanup;
+
+    /**
+     * Hashes of the content of files by their path, see {@link #getContentHash(Path)}
+     */
+    private final Map<Path, String> contentHashes;
+
+    public RepoSnapshot(final String id, final String revision, final Path path, final ZonedDateTime timestamp) {
+        this(id, revision, null, path, timestamp);
+    }
+
+    public RepoSnapshot(final String id, final String revision, final ZonedDateTime commitTime, final Path path, final ZonedDateTime timestamp) {
+        this(id, revision, commitTime, path, timestamp, () -> {
+        });
+    }
+
+    RepoSnapshot(final String id, final String revision, final ZonedDateTime commitTime, final Path path, final ZonedDateTime timestamp, final Runnable cleanup) {
+        this.id = Objects.requireNonNull(id, "id must not be null");
+        this.revision = revision;
+        this.commitTime = commitTime;
+        this.path = Objects.requireNonNull(path, "path must not be null");
+        this.timestamp = Objects.requireNonNull(timestamp, "timestamp must not be null");
+        this.cleanup = Objects.requireNonNull(cleanup, "cleanup must not be null");
+        this.references = new AtomicInteger(1);
+        this.contentHashes = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Tries to acquire a reference to the snapshot.
+     *
+     * @return true if the snapshot has been acquired, false if the content of the snapshot has already been released
+     */
+    public boolean acquire() {
+        int current;
+        do {
+            current = references.get();
+            if (current <= 0) {
+                return false;
+            }
+        } while (!references.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    /**
+     * Releases a reference to the snapshot. The content will be deleted once all references have been released.
+     */
+    public void release() {
+        final int remaining = references.decrementAndGet();
+        if (remaining == 0) {
+            cleanup.run();
+        } else if (remaining < 0) {
+            throw new IllegalStateException("Snapshot " + id + " has been released too often");
+        }
+    }
+
+    /**
+     * Resolves a file of the snapshot. The snapshot must be acquired while the file is accessed.
+     *
+     * @param relativePath path of the file relative to the repository root
+     * @return the file or an empty optional if the file does not exist or is not part of the snapshot
+     */
+    public Optional<Path> resolveFile(final Path relativePath) {
+        Objects.requireNonNull(relativePath, "relativePath must not be null");
+        final Path file = path.resolve(relativePath).normalize();
+        if (file.startsWith(path) && !AssetCompressor.isCompressedVariant(file) && Files.isRegularFile(file)) {
+            return Optional.of(file);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Resolves the gzip compressed variant of a file that has been created while the snapshot was downloaded. The
+     * snapshot must be acquired while the file is accessed.
+     *
+     * @param relativePath path of the (uncompressed) file relative to the repository root
+     * @return the compressed file or an empty optional if the file does not exist or has no compressed variant
+     */
+    public Optional<Path> resolveCompressedFile(final Path relativePath) {
+        return resolveFile(relativePath)
+                .map(file -> file.resolveSibling(file.getFileName() + AssetCompressor.COMPRESSED_SUFFIX))
+                .filter(file -> Files.isRegularFile(file));
+    }
+
+    /**
+     * Returns a hash of the content of a file of the snapshot. The content of a snapshot never changes, so the hash of
+     * a file is only computed once. The snapshot must be acquired while the hash is computed.
+     *
+     * @param file a file of the snapshot (as provided by {@link #resolveFile(Path)})
+     * @return the hash
+     * @throws IOException if the file can not be read
+     */
+    public String getContentHash(final Path file) throws IOException {
+        Objects.requireNonNull(file, "file must not be null");
+        final String cachedHash = contentHashes.get(file);
+        if (cachedHash != null) {
+            return cachedHash;
+        }
+        final String hash = HashUtils.hash(file);
+        contentHashes.putIfAbsent(file, hash);
+        return hash;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public Optional<String> getRevision() {
+        return Optional.ofNullable(revision);
+    }
+
+    public Optional<ZonedDateTime> getCommitTime() {
+        return Optional.ofNullable(commitTime);
+    }
+
+    /**
+     * Returns the time the content of the snapshot has been changed. That is the time of the commit the content is
+     * based on or, if that is unknown, the time of the download.
+     *
+     * @return the time of the last change
+     */
+    public ZonedDateTime getLastModified() {
+        return commitTime != null ? commitTime : timestamp;
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    public ZonedDateTime getTimestamp() {
+        return timestamp;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final RepoSnapshot that = (RepoSnapshot) o;
+        return id.equals(that.id) && path.equals(that.path);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, path);
+    }
+}
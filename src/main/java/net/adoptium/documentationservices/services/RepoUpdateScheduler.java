@@ -0,0 +1,129 @@
+package net.adoptium.documentationservices.services;
+
+import net.adoptium.documentationservices.util.Task;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.PreDestroy;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Keeps the local content of the repository up to date. The repository is checked for updates periodically and can be
+ * refreshed on request (for example because a change has been pushed). All checks and downloads run on a single
+ * thread, so they never run in parallel.
+ */
+@Singleton
+public class RepoUpdateScheduler {
+
+    private static final Logger LOG = LoggerFactory.getLogger(RepoUpdateScheduler.class);
+
+    /**
+     * Delay of a requested refresh. All requests in this time are handled by a single refresh.
+     */
+    private static final Duration REFRESH_DELAY = Duration.ofSeconds(5);
+
+    /**
+     * Downloads the repository content if an update is available
+     */
+    private final Task<IOException> update;
+
+    /**
+     * Downloads the repository content on request
+     */
+    private final Task<IOException> refresh;
+
+    private final Duration refreshDelay;
+
+    private final ScheduledExecutorService executorService;
+
+    /**
+     * True while a requested refresh is scheduled but has not started
+     */
+    private final AtomicBoolean refreshPending;
+
+    @Inject
+    public RepoUpdateScheduler(final RepoService repoService) {
+        this(repoService, REFRESH_DELAY);
+    }
+
+    /**
+     * Creates a scheduler for the given repository. A requested refresh checks for an update as well, so a request for
+     * a head that has already been downloaded (like a redelivered webhook) does not replace the snapshot.
+     *
+     * @param repoService  the repository
+     * @param refreshDelay delay of a requested refresh
+     */
+    RepoUpdateScheduler(final RepoService repoService, final Duration refreshDelay) {
+        this(() -> downloadIfUpdateAvailable(repoService), () -> downloadIfUpdateAvailable(repoService), refreshDelay);
+    }
+
+    /**
+     * Creates a scheduler that runs the given tasks.
+     *
+     * @param update       downloads the repository content if an update is available
+     * @param refresh      downloads the repository content
+     * @param refreshDelay delay of a requested refresh
+     */
+    public RepoUpdateScheduler(final Task<IOException> update, final Task<IOException> refresh, final Duration refreshDelay) {
+        this.update = Objects.requireNonNull(update, "update must not be null");
+        this.refresh = Objects.requireNonNull(refresh, "refresh must not be null");
+        this.refreshDelay = Objects.requireNonNull(refreshDelay, "refreshDelay must not be null");
+        this.executorService = Executors.newSingleThreadScheduledExecutor();
+        this.refreshPending = new AtomicBoolean();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executorService.shutdownNow();
+    }
+
+    /**
+     * Checks the repository for updates in the given period, starting immediately.
+     *
+     * @param periodInSec the period in seconds
+     */
+    public void schedulePeriodicUpdates(final long periodInSec) {
+        executorService.scheduleAtFixedRate(() -> updateRepo(), 0, periodInSec, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Requests a download of the repository content. Requests that arrive before the refresh starts are coalesced, so
+     * a burst of pushes results in a single download.
+     */
+    public void requestRefresh() {
+        if (refreshPending.compareAndSet(false, true)) {
+            executorService.schedule(() -> refreshRepo(), refreshDelay.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private static void downloadIfUpdateAvailable(final RepoService repoService) throws IOException {
+        if (repoService.isUpdateAvailable()) {
+            repoService.downloadRepositoryContent();
+        }
+    }
+
+    private void updateRepo() {
+        try {
+            update.run();
+        } catch (final Exception e) {
+            LOG.error("Error in repo update (check)", e);
+        }
+    }
+
+    private void refreshRepo() {
+        refreshPending.set(false);
+        try {
+            refresh.run();
+        } catch (final Exception e) {
+            LOG.error("Error in repo refresh", e);
+        }
+    }
+}
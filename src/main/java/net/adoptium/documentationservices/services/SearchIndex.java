@@ -0,0 +1,419 @@
+package net.adoptium.documentationservices.services;
+
+import net.adoptium.documentationservices.model.Document;
+import net.adoptium.documentationservices.model.Documentation;
+import net.adoptium.documentationservices.model.SearchResult;
+import net.adoptium.documentationservices.util.LocaleUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Immutable full-text index of the rendered documents of one snapshot. Documents are indexed separately for each
+ * language and ranked with BM25. The postings of a term are stored as arrays of primitives, so the index stays small
+ * and a search does not create objects per document. The text of the documents is not kept: the index only knows where
+ * a term occurs in the rendered content of a document and creates the snippets of the results from that content.
+ */
+class SearchIndex {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SearchIndex.class);
+
+    /**
+     * BM25 parameter that limits the influence of the term frequency
+     */
+    private static final double K1 = 1.2;
+
+    /**
+     * BM25 parameter that defines how much the length of a document reduces its score
+     */
+    private static final double B = 0.75;
+
+    /**
+     * Words of the title count as often as this in the term frequency
+     */
+    private static final int TITLE_WEIGHT = 3;
+
+    private static final int SNIPPET_LENGTH = 200;
+
+    /**
+     * Number of bytes of the rendered content before a match that are converted to text to create a snippet
+     */
+    private static final int SNIPPET_SOURCE_BEFORE = SNIPPET_LENGTH * 2;
+
+    /**
+     * Number of bytes of the rendered content after a match that are converted to text to create a snippet
+     */
+    private static final int SNIPPET_SOURCE_AFTER = SNIPPET_LENGTH * 8;
+
+    private static final String ELLIPSIS = "...";
+
+    private final Map<Locale, LanguageIndex> indexesByLocale;
+
+    private SearchIndex(final Map<Locale, LanguageIndex> indexesByLocale) {
+        this.indexesByLocale = Collections.unmodifiableMap(indexesByLocale);
+    }
+
+    /**
+     * Creates an index of all documents of the given documentations. The documents are rendered if that has not
+     * happened already; documents that can not be rendered are not indexed.
+     *
+     * @param documentations the documentations
+     * @return the index
+     */
+    static SearchIndex build(final Collection<Documentation> documentations) {
+        Objects.requireNonNull(documentations, "documentations must not be null");
+        final Map<Locale, LanguageIndexBuilder> builders = new HashMap<>();
+        for (final Documentation documentation : documentations) {
+            documentation.getDocuments().forEach(document -> {
+                try {
+                    builders.computeIfAbsent(document.getLocale(), LanguageIndexBuilder::new).add(documentation.getId(), document);
+                } catch (final Exception e) {
+                    LOG.warn("Can not index document '" + documentation.getId() + "' (" + document.getLocale() + ")", e);
+                }
+            });
+        }
+        return new SearchIndex(builders.entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().build())));
+    }
+
+    /**
+     * Searches the documents in the given locale. Documentations without a document in the locale are searched in the
+     * less specific locales of the language and finally in english (see {@link LocaleUtils#getFallbacks(Locale)}), so
+     * each documentation is searched in the best locale it is available in and found at most once.
+     *
+     * @param query  the query, documents that contain more of its words are ranked higher
+     * @param locale the locale of the documents
+     * @param limit  maximum number of results
+     * @return the results ordered by their relevance
+     */
+    List<SearchResult> search(final String query, final Locale locale, final int limit) {
+        Objects.requireNonNull(query, "query must not be null");
+        Objects.requireNonNull(locale, "locale must not be null");
+        final List<LanguageIndex> preferredIndexes = new ArrayList<>();
+        final List<SearchResult> results = new ArrayList<>();
+        for (final Locale fallback : LocaleUtils.getFallbacks(locale)) {
+            final LanguageIndex index = indexesByLocale.get(fallback);
+            if (index != null) {
+                results.addAll(index.search(query, limit, preferredIndexes));
+                preferredIndexes.add(index);
+            }
+        }
+        if (preferredIndexes.size() <= 1) {
+            return results;
+        }
+        return results.stream()
+                .sorted(Comparator.comparingDouble(SearchResult::getScore).reversed()
+                        .thenComparing(SearchResult::getDocumentationId))
+                .limit(Math.max(0, limit))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * @return number of indexed documents
+     */
+    int size() {
+        return indexesByLocale.values().stream().mapToInt(index -> index.documentationIds.length).sum();
+    }
+
+    private static class LanguageIndex {
+
+        private final Locale locale;
+
+        private final String[] documentationIds;
+
+        private final Set<String> documentationIdSet;
+
+        private final String[] titles;
+
+        /**
+         * The indexed documents, their rendered content is used to create snippets
+         */
+        private final Document[] documents;
+
+        /**
+         * Number of (weighted) terms of each document
+         */
+        private final int[] lengths;
+
+        private final double averageLength;
+
+        private final Map<String, Postings> postingsByTerm;
+
+        private LanguageIndex(final Locale locale, final String[] documentationIds, final String[] titles, final Document[] documents,
+                              final int[] lengths, final Map<String, Postings> postingsByTerm) {
+            this.locale = locale;
+            this.documentationIds = documentationIds;
+            this.documentationIdSet = new HashSet<>(Arrays.asList(documentationIds));
+            this.titles = titles;
+            this.documents = documents;
+            this.lengths = lengths;
+            this.averageLength = Math.max(1, Arrays.stream(lengths).average().orElse(1));
+            this.postingsByTerm = postingsByTerm;
+        }
+
+        /**
+         * Searches the documents of the language. Documentations that have a document in one of the given indexes are
+         * skipped, as they are searched in those.
+         */
+        private List<SearchResult> search(final String query, final int limit, final List<LanguageIndex> preferredIndexes) {
+            final Set<String> terms = new LinkedHashSet<>();
+            TextAnalyzer.forEachWord(query, (start, end) -> terms.add(TextAnalyzer.toTerm(query.substring(start, end), locale)));
+            final double[] scores = new double[documentationIds.length];
+            final int[] matchOffsets = new int[documentationIds.length];
+            Arrays.fill(matchOffsets, Integer.MAX_VALUE);
+            for (final String term : terms) {
+                final Postings postings = postingsByTerm.get(term);
+                if (postings == null) {
+                    continue;
+                }
+                final int documentCount = postings.documents.length;
+                final double idf = Math.log(1 + (documentationIds.length - documentCount + 0.5) / (documentCount + 0.5));
+                for (int i = 0; i < documentCount; i++) {
+                    final int document = postings.documents[i];
+                    final int frequency = postings.frequencies[i];
+                    final double norm = K1 * (1 - B + B * lengths[document] / averageLength);
+                    scores[document] += idf * frequency * (K1 + 1) / (frequency + norm);
+                    if (postings.offsets[i] >= 0) {
+                        matchOffsets[document] = Math.min(matchOffsets[document], postings.offsets[i]);
+                    }
+                }
+            }
+            return IntStream.range(0, scores.length)
+                    .filter(document -> scores[document] > 0)
+                    .filter(document -> preferredIndexes.stream().noneMatch(index -> index.documentationIdSet.contains(documentationIds[document])))
+                    .boxed()
+                    .sorted(Comparator.<Integer>comparingDouble(document -> scores[document]).reversed()
+                            .thenComparing(document -> documentationIds[document]))
+                    .limit(Math.max(0, limit))
+                    .map(document -> new SearchResult(documentationIds[document], locale, titles[document],
+                            createSnippet(documents[document].getEncodedHtmlContent().getContent(), matchOffsets[document]), scores[document]))
+                    .collect(Collectors.toList());
+        }
+
+        /**
+         * Returns the text around the first searched term. Only the part of the rendered content around the term is
+         * converted to text. If the text does not contain a term (because it is only part of the title) the beginning
+         * of the text is returned.
+         *
+         * @param html        the rendered content as UTF-8
+         * @param matchOffset offset of the first searched term in the rendered content
+         */
+        private static String createSnippet(final byte[] html, final int matchOffset) {
+            final int match = matchOffset == Integer.MAX_VALUE ? 0 : matchOffset;
+            int sourceStart = Math.max(0, match - SNIPPET_SOURCE_BEFORE);
+            while (sourceStart < match && isContinuationByte(html[sourceStart])) {
+                sourceStart++;
+            }
+            if (isInTag(html, sourceStart)) {
+                while (sourceStart < match && html[sourceStart++] != '>') {
+                    //skips the rest of the tag
+                }
+            }
+            int sourceEnd = Math.min(html.length, match + SNIPPET_SOURCE_AFTER);
+            while (sourceEnd < html.length && isContinuationByte(html[sourceEnd])) {
+                sourceEnd--;
+            }
+            if (isInTag(html, sourceEnd)) {
+                while (sourceEnd > match && html[sourceEnd] != '<') {
+                    sourceEnd--;
+                }
+            }
+            final String source = new String(html, sourceStart, sourceEnd - sourceStart, StandardCharsets.UTF_8);
+            final int[] sourceIndexes = new int[source.length()];
+            final String text = TextAnalyzer.toPlainText(source, sourceIndexes);
+            final int sourceMatch = new String(html, sourceStart, match - sourceStart, StandardCharsets.UTF_8).length();
+            int textMatch = 0;
+            while (textMatch < text.length() && sourceIndexes[textMatch] < sourceMatch) {
+                textMatch++;
+            }
+            final boolean partialWordAtStart = sourceStart > 0 && html[sourceStart - 1] != '>' && !Character.isWhitespace(html[sourceStart - 1]);
+            return createSnippet(text, textMatch, sourceStart > 0, partialWordAtStart, sourceEnd < html.length);
+        }
+
+        /**
+         * Returns the part of the text around the match.
+         *
+         * @param text               the text
+         * @param match              index of the match in the text
+         * @param textBefore         true if the document contains text before the given text
+         * @param partialWordAtStart true if the given text starts in the middle of a word
+         * @param textAfter          true if the document contains text after the given text
+         */
+        private static String createSnippet(final String text, final int match, final boolean textBefore,
+                                            final boolean partialWordAtStart, final boolean textAfter) {
+            int start = Math.max(0, match - SNIPPET_LENGTH / 4);
+            if (start > 0 || partialWordAtStart) {
+                final int wordStart = text.indexOf(' ', start);
+                start = wordStart >= 0 && wordStart < match ? wordStart + 1 : match;
+            }
+            int end = Math.min(text.length(), start + SNIPPET_LENGTH);
+            if (end < text.length() || textAfter) {
+                final int wordEnd = text.lastIndexOf(' ', end);
+                end = wordEnd > match ? wordEnd : end;
+            }
+            return (start > 0 || textBefore ? ELLIPSIS : "") + text.substring(start, end) + (end < text.length() || textAfter ? ELLIPSIS : "");
+        }
+
+        private static boolean isContinuationByte(final byte b) {
+            return (b & 0xC0) == 0x80;
+        }
+
+        /**
+         * Returns true if the given offset of the rendered content is inside of a tag.
+         */
+        private static boolean isInTag(final byte[] html, final int offset) {
+            for (int i = offset - 1; i >= 0; i--) {
+                if (html[i] == '>') {
+                    return false;
+                }
+                if (html[i] == '<') {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * The documents that contain a term, how often and where it is contained in each of them
+     */
+    private static class Postings {
+
+        private final int[] documents;
+
+        private final int[] frequencies;
+
+        /**
+         * Offset of the first occurrence of the term in the rendered content (UTF-8) of each document (-1 if it is only
+         * part of the title)
+         */
+        private final int[] offsets;
+
+        private Postings(final int[] documents, final int[] frequencies, final int[] offsets) {
+            this.documents = documents;
+            this.frequencies = frequencies;
+            this.offsets = offsets;
+        }
+    }
+
+    private static class LanguageIndexBuilder {
+
+        private final Locale locale;
+
+        private final List<String> documentationIds = new ArrayList<>();
+
+        private final List<String> titles = new ArrayList<>();
+
+        private final List<Document> documents = new ArrayList<>();
+
+        private final List<Integer> lengths = new ArrayList<>();
+
+        private final Map<String, PostingsBuilder> postingsByTerm = new HashMap<>();
+
+        private LanguageIndexBuilder(final Locale locale) {
+            this.locale = locale;
+        }
+
+        private void add(final String documentationId, final Document document) {
+            final String title = document.getTitle();
+            final String html = document.getHtmlContent();
+            final int[] sourceIndexes = new int[html.length()];
+            final String text = TextAnalyzer.toPlainText(html, sourceIndexes);
+            final Utf8Offsets htmlOffsets = new Utf8Offsets(html);
+            final Map<String, Integer> frequencies = new HashMap<>();
+            final Map<String, Integer> offsets = new HashMap<>();
+            TextAnalyzer.forEachWord(title, (start, end) ->
+                    frequencies.merge(TextAnalyzer.toTerm(title.substring(start, end), locale), TITLE_WEIGHT, Integer::sum));
+            TextAnalyzer.forEachWord(text, (start, end) -> {
+                final String term = TextAnalyzer.toTerm(text.substring(start, end), locale);
+                frequencies.merge(term, 1, Integer::sum);
+                if (!offsets.containsKey(term)) {
+                    offsets.put(term, htmlOffsets.getOffset(sourceIndexes[start]));
+                }
+            });
+
+            final int index = documentationIds.size();
+            documentationIds.add(documentationId);
+            titles.add(title);
+            documents.add(document);
+            lengths.add(frequencies.values().stream().mapToInt(Integer::intValue).sum());
+            frequencies.forEach((term, frequency) -> postingsByTerm.computeIfAbsent(term, t -> new PostingsBuilder())
+                    .add(index, frequency, offsets.getOrDefault(term, -1)));
+        }
+
+        private LanguageIndex build() {
+            final Map<String, Postings> postings = new HashMap<>();
+            postingsByTerm.forEach((term, builder) -> postings.put(term, builder.build()));
+            return new LanguageIndex(locale, documentationIds.toArray(new String[0]), titles.toArray(new String[0]),
+                    documents.toArray(new Document[0]), lengths.stream().mapToInt(Integer::intValue).toArray(), postings);
+        }
+    }
+
+    private static class PostingsBuilder {
+
+        private int[] documents = new int[4];
+
+        private int[] frequencies = new int[4];
+
+        private int[] offsets = new int[4];
+
+        private int size;
+
+        private void add(final int document, final int frequency, final int offset) {
+            if (size == documents.length) {
+                documents = Arrays.copyOf(documents, size * 2);
+                frequencies = Arrays.copyOf(frequencies, size * 2);
+                offsets = Arrays.copyOf(offsets, size * 2);
+            }
+            documents[size] = document;
+            frequencies[size] = frequency;
+            offsets[size] = offset;
+            size++;
+        }
+
+        private Postings build() {
+            return new Postings(Arrays.copyOf(documents, size), Arrays.copyOf(frequencies, size), Arrays.copyOf(offsets, size));
+        }
+    }
+
+    /**
+     * Converts indexes of a string into offsets of its UTF-8 encoding. The indexes must be requested in ascending order,
+     * so each character is only counted once.
+     */
+    private static class Utf8Offsets {
+
+        private final String text;
+
+        private int index;
+
+        private int offset;
+
+        private Utf8Offsets(final String text) {
+            this.text = text;
+        }
+
+        private int getOffset(final int targetIndex) {
+            while (index < targetIndex) {
+                final char c = text.charAt(index++);
+                offset += c < 0x80 ? 1 : c < 0x800 || Character.isSurrogate(c) ? 2 : 3;
+            }
+            return offset;
+        }
+    }
+}
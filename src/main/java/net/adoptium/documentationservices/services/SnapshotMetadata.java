@@ -0,0 +1,120 @@
+package net.adoptium.documentationservices.services;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Properties;
+
+/**
+ * Metadata of the last complete snapshot in a persistent data dir. Based on the metadata the snapshot can be served
+ * directly after a restart, without downloading the repository again.
+ */
+class SnapshotMetadata {
+
+    private static final String ID_KEY = "id";
+
+    private static final String REVISION_KEY = "revision";
+
+    private static final String COMMIT_TIME_KEY = "commitTime";
+
+    private static final String TIMESTAMP_KEY = "timestamp";
+
+    private final String id;
+
+    private final String revision;
+
+    private final ZonedDateTime commitTime;
+
+    private final ZonedDateTime timestamp;
+
+    SnapshotMetadata(final String id, final String revision, final ZonedDateTime commitTime, final ZonedDateTime timestamp) {
+        this.id = Objects.requireNonNull(id, "id must not be null");
+        this.revision = revision;
+        this.commitTime = commitTime;
+        this.timestamp = Objects.requireNonNull(timestamp, "timestamp must not be null");
+    }
+
+    static SnapshotMetadata of(final RepoSnapshot snapshot) {
+        Objects.requireNonNull(snapshot, "snapshot must not be null");
+        return new SnapshotMetadata(snapshot.getId(), snapshot.getRevision().orElse(null), snapshot.getCommitTime().orElse(null), snapshot.getTimestamp());
+    }
+
+    /**
+     * Reads the metadata from the given file.
+     *
+     * @param file the file
+     * @return the metadata or an empty optional if the file does not exist or is not valid
+     * @throws IOException if the file can not be read
+     */
+    static Optional<SnapshotMetadata> read(final Path file) throws IOException {
+        Objects.requireNonNull(file, "file must not be null");
+        if (!Files.isRegularFile(file)) {
+            return Optional.empty();
+        }
+        final Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        }
+        final String id = properties.getProperty(ID_KEY);
+        final String commitTime = properties.getProperty(COMMIT_TIME_KEY);
+        final String timestamp = properties.getProperty(TIMESTAMP_KEY);
+        if (id == null || timestamp == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(new SnapshotMetadata(id, properties.getProperty(REVISION_KEY),
+                    commitTime == null ? null : ZonedDateTime.parse(commitTime), ZonedDateTime.parse(timestamp)));
+        } catch (final DateTimeParseException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Writes the metadata to the given file. The file is replaced atomically, so readers never see a partly written
+     * file.
+     *
+     * @param file the file
+     * @throws IOException if the file can not be written
+     */
+    void write(final Path file) throws IOException {
+        Objects.requireNonNull(file, "file must not be null");
+        final Properties properties = new Properties();
+        properties.setProperty(ID_KEY, id);
+        if (revision != null) {
+            properties.setProperty(REVISION_KEY, revision);
+        }
+        if (commitTime != null) {
+            properties.setProperty(COMMIT_TIME_KEY, commitTime.toString());
+        }
+        properties.setProperty(TIMESTAMP_KEY, timestamp.toString());
+        final Path tempFile = file.resolveSibling(file.getFileName() + ".tmp");
+        try (Writer writer = Files.newBufferedWriter(tempFile, StandardCharsets.UTF_8)) {
+            properties.store(writer, "Last complete snapshot of the repository");
+        }
+        Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    String getId() {
+        return id;
+    }
+
+    String getRevision() {
+        return revision;
+    }
+
+    ZonedDateTime getCommitTime() {
+        return commitTime;
+    }
+
+    ZonedDateTime getTimestamp() {
+        return timestamp;
+    }
+}
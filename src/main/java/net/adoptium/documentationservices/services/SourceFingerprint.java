@@ -0,0 +1,53 @@
+package net.adoptium.documentationservices.services;
+
+import net.adoptium.documentationservices.util.HashUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Creates a fingerprint of the sources of a rendered document: the adoc file and all files it includes
+ * (recursively). Two documents with the same fingerprint will be rendered to the same content.
+ */
+class SourceFingerprint {
+
+    /**
+     * Matches {@code include::target[attributes]} directives. Targets that contain attributes or point to a URL can
+     * not be resolved and are ignored.
+     */
+    private static final Pattern INCLUDE_PATTERN = Pattern.compile("^include::([^\\[{]+)\\[.*]\\s*$");
+
+    static String of(final Path adocFile) throws IOException {
+        Objects.requireNonNull(adocFile, "adocFile must not be null");
+        final List<String> hashes = new ArrayList<>();
+        addHashes(adocFile.toAbsolutePath().normalize(), hashes, new HashSet<>());
+        return HashUtils.hash(hashes.toArray(new String[0]));
+    }
+
+    private static void addHashes(final Path file, final List<String> hashes, final Set<Path> visited) throws IOException {
+        if (!visited.add(file)) {
+            return;
+        }
+        hashes.add(file.getFileName() + ":" + HashUtils.hash(file));
+        for (final String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+            final Matcher matcher = INCLUDE_PATTERN.matcher(line);
+            if (matcher.matches() && !matcher.group(1).contains("://")) {
+                final Path includedFile = file.resolveSibling(matcher.group(1).trim()).normalize();
+                if (Files.isRegularFile(includedFile)) {
+                    addHashes(includedFile, hashes, visited);
+                } else {
+                    hashes.add(includedFile.getFileName() + ":missing");
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package net.adoptium.documentationservices.services;
+
+import java.util.Locale;
+import java.util.Objects;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Splits text into the terms of the {@link SearchIndex}. Terms are lower case words; for english text the most common
+ * suffixes are removed, so that for example "installing", "installed" and "installs" are all found by "install".
+ */
+class TextAnalyzer {
+
+    private static final Pattern INVISIBLE_ELEMENTS = Pattern.compile("(?is)<(script|style)\\b[^>]*>.*?</\\1>");
+
+    private static final Pattern TAGS = Pattern.compile("<[^>]*>");
+
+    private static final Pattern ENTITIES = Pattern.compile("&(#[0-9]+|#[xX][0-9a-fA-F]+|amp|lt|gt|quot|apos|nbsp);");
+
+    private TextAnalyzer() {
+    }
+
+    /**
+     * Converts rendered html to plain text.
+     *
+     * @param html the html content
+     * @return the text of the html content with collapsed whitespace
+     */
+    static String toPlainText(final String html) {
+        return toPlainText(html, null);
+    }
+
+    /**
+     * Converts rendered html to plain text and records where each character of the text is taken from. Tags and the
+     * content of script and style elements are replaced by whitespace and entities are decoded.
+     *
+     * @param html          the html content
+     * @param sourceIndexes receives the index in the html of each character of the text (the text is never longer than
+     *                      the html), can be {@code null}
+     * @return the text of the html content with collapsed whitespace
+     */
+    static String toPlainText(final String html, final int[] sourceIndexes) {
+        Objects.requireNonNull(html, "html must not be null");
+        final StringBuilder builder = new StringBuilder(html.length());
+        final Matcher invisibleElements = INVISIBLE_ELEMENTS.matcher(html);
+        final Matcher tags = TAGS.matcher(html);
+        final Matcher entities = ENTITIES.matcher(html);
+        //index of the whitespace that precedes the next character, -1 if there is none
+        int whitespaceIndex = -1;
+        int i = 0;
+        while (i < html.length()) {
+            final char c = html.charAt(i);
+            final Matcher element = c != '<' ? null
+                    : lookingAt(invisibleElements, i) ? invisibleElements
+                    : lookingAt(tags, i) ? tags
+                    : null;
+            if (element != null) {
+                whitespaceIndex = whitespaceIndex < 0 ? i : whitespaceIndex;
+                i = element.end();
+                continue;
+            }
+            final String decoded = c == '&' && lookingAt(entities, i) ? decodeEntity(entities.group(1)) : null;
+            final String characters = decoded != null ? decoded : String.valueOf(c);
+            for (int j = 0; j < characters.length(); j++) {
+                final char character = characters.charAt(j);
+                if (isWhitespace(character)) {
+                    whitespaceIndex = whitespaceIndex < 0 ? i : whitespaceIndex;
+                    continue;
+                }
+                if (whitespaceIndex >= 0 && builder.length() > 0) {
+                    append(builder, ' ', whitespaceIndex, sourceIndexes);
+                }
+                whitespaceIndex = -1;
+                append(builder, character, i, sourceIndexes);
+            }
+            i = decoded != null ? entities.end() : i + 1;
+        }
+        return builder.toString();
+    }
+
+    private static boolean lookingAt(final Matcher matcher, final int index) {
+        return matcher.region(index, matcher.regionEnd()).lookingAt();
+    }
+
+    private static void append(final StringBuilder builder, final char character, final int sourceIndex, final int[] sourceIndexes) {
+        if (sourceIndexes != null) {
+            sourceIndexes[builder.length()] = sourceIndex;
+        }
+        builder.append(character);
+    }
+
+    /**
+     * Same characters as {@code \s} of a regular expression
+     */
+    private static boolean isWhitespace(final char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    /**
+     * Calls the consumer for each word of the text.
+     *
+     * @param text     the text
+     * @param consumer gets the start (inclusive) and end (exclusive) index of each word
+     */
+    static void forEachWord(final String text, final WordConsumer consumer) {
+        int start = -1;
+        for (int i = 0; i < text.length(); i++) {
+            if (Character.isLetterOrDigit(text.charAt(i))) {
+                if (start < 0) {
+                    start = i;
+                }
+            } else if (start >= 0) {
+                consumer.accept(start, i);
+                start = -1;
+            }
+        }
+        if (start >= 0) {
+            consumer.accept(start, text.length());
+        }
+    }
+
+    /**
+     * Converts a word to the term that is stored in the index.
+     *
+     * @param word   the word
+     * @param locale locale of the text the word is taken from
+     * @return the term
+     */
+    static String toTerm(final String word, final Locale locale) {
+        final String term = word.toLowerCase(locale);
+        if (Locale.ENGLISH.getLanguage().equals(locale.getLanguage())) {
+            return stem(term);
+        }
+        return term;
+    }
+
+    /**
+     * Removes common english suffixes. The result is not always a real word, but all forms of a word end up as the same
+     * term.
+     */
+    private static String stem(final String term) {
+        if (term.length() <= 3) {
+            return term;
+        }
+        if (term.endsWith("ies") && term.length() > 4) {
+            return term.substring(0, term.length() - 3) + "y";
+        }
+        if (term.endsWith("sses")) {
+            return term.substring(0, term.length() - 2);
+        }
+        if (term.endsWith("ing") && term.length() > 5) {
+            return term.substring(0, term.length() - 3);
+        }
+        if (term.endsWith("ed") && term.length() > 4) {
+            return term.substring(0, term.length() - 2);
+        }
+        if (term.endsWith("s") && !term.endsWith("ss") && !term.endsWith("us") && !term.endsWith("is")) {
+            return term.substring(0, term.length() - 1);
+        }
+        return term;
+    }
+
+    private static String decodeEntity(final String entity) {
+        switch (entity) {
+            case "amp":
+                return "&";
+            case "lt":
+                return "<";
+            case "gt":
+                return ">";
+            case "quot":
+                return "\"";
+            case "apos":
+                return "'";
+            case "nbsp":
+                return " ";
+            default:
+                try {
+                    final int codePoint = entity.charAt(1) == 'x' || entity.charAt(1) == 'X'
+                            ? Integer.parseInt(entity.substring(2), 16)
+                            : Integer.parseInt(entity.substring(1));
+                    return new String(Character.toChars(codePoint));
+                } catch (final IllegalArgumentException e) {
+                    return " ";
+                }
+        }
+    }
+
+    @FunctionalInterface
+    interface WordConsumer {
+        void accept(int start, int end);
+    }
+}
@@ -0,0 +1,89 @@
+package net.adoptium.documentationservices.services;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+/**
+ * Extracts a ZIP archive in a single pass. Archives of GitHub contain a root folder (like
+ * {@code adoptium-documentation-1a2b3c4}) that is stripped while extracting, so each entry is directly written to its
+ * final path.
+ */
+class ZipExtractor {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Path targetDirectory;
+
+    private final byte[] buffer;
+
+    /**
+     * @param targetDirectory the existing directory the content of the archive is written to
+     */
+    ZipExtractor(final Path targetDirectory) {
+        this.targetDirectory = Objects.requireNonNull(targetDirectory, "targetDirectory must not be null").toAbsolutePath().normalize();
+        this.buffer = new byte[BUFFER_SIZE];
+    }
+
+    /**
+     * Extracts the given archive. Entries that are not part of a root folder are ignored.
+     *
+     * @param input the archive
+     * @return the number of extracted files
+     * @throws IOException if the archive can not be read, contains entries outside of the target directory or the files
+     *                     can not be written
+     */
+    int extract(final InputStream input) throws IOException {
+        Objects.requireNonNull(input, "input must not be null");
+        int fileCount = 0;
+        try (ZipInputStream zipInputStream = new ZipInputStream(input)) {
+            ZipEntry zipEntry;
+            while ((zipEntry = zipInputStream.getNextEntry()) != null) {
+                final String name = stripRootFolder(zipEntry.getName());
+                if (!name.isEmpty()) {
+                    final Path path = resolve(name);
+                    if (zipEntry.isDirectory()) {
+                        Files.createDirectories(path);
+                    } else {
+                        Files.createDirectories(path.getParent());
+                        write(zipInputStream, path);
+                        fileCount++;
+                    }
+                }
+                zipInputStream.closeEntry();
+            }
+        }
+        return fileCount;
+    }
+
+    private void write(final InputStream input, final Path file) throws IOException {
+        try (OutputStream outputStream = Files.newOutputStream(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            int len;
+            while ((len = input.read(buffer)) > 0) {
+                outputStream.write(buffer, 0, len);
+            }
+        }
+    }
+
+    private Path resolve(final String name) throws IOException {
+        final Path path = targetDirectory.resolve(name).normalize();
+        if (!path.startsWith(targetDirectory) || path.equals(targetDirectory)) {
+            throw new IOException("Entry '" + name + "' is outside of the target directory");
+        }
+        return path;
+    }
+
+    private static String stripRootFolder(final String name) {
+        final int index = name.indexOf('/');
+        if (index < 0) {
+            return "";
+        }
+        return name.substring(index + 1);
+    }
+}
@@ -0,0 +1,108 @@
+package net.adoptium.documentationservices.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.zip.Deflater;
+
+/**
+ * Content that is kept as UTF-8 bytes and, if that is smaller, as gzip compressed bytes. Endpoints can write the
+ * variant that matches the {@code Accept-Encoding} of a request without encoding or compressing anything per request.
+ * The content is compressed the first time the compressed variant is requested, or ahead of time by calling
+ * {@link #getGzipContent()} once. Content that is served many times is compressed with the best compression level,
+ * content that is created per request can use a faster level. The returned arrays are shared and must not be modified.
+ */
+public class EncodedContent {
+
+    /**
+     * Marks content whose compression does not reduce the size
+     */
+    private static final byte[] NOT_COMPRESSIBLE = new byte[0];
+
+    private final byte[] content;
+
+    /**
+     * The compression level that is used to create the gzip compressed content
+     */
+    private final int compressionLevel;
+
+    /**
+     * The gzip compressed content ({@code null} until the content has been compressed)
+     */
+    private volatile byte[] gzipContent;
+
+    private EncodedContent(final byte[] content, final byte[] gzipContent, final int compressionLevel) {
+        this.content = Objects.requireNonNull(content, "content must not be null");
+        this.gzipContent = gzipContent;
+        this.compressionLevel = compressionLevel;
+    }
+
+    /**
+     * Encodes the given content as UTF-8.
+     *
+     * @param content the content
+     * @return the encoded content
+     */
+    public static EncodedContent of(final String content) {
+        return of(content, Deflater.BEST_COMPRESSION);
+    }
+
+    /**
+     * Encodes the given content as UTF-8. The content is compressed with the given level if the compressed variant is
+     * requested.
+     *
+     * @param content          the content
+     * @param compressionLevel the compression level (see {@link Deflater#setLevel(int)})
+     * @return the encoded content
+     */
+    public static EncodedContent of(final String content, final int compressionLevel) {
+        Objects.requireNonNull(content, "content must not be null");
+        return new EncodedContent(content.getBytes(StandardCharsets.UTF_8), null, compressionLevel);
+    }
+
+    /**
+     * Wraps the given content. The array must not be modified afterwards.
+     *
+     * @param content the content
+     * @return the encoded content
+     */
+    public static EncodedContent of(final byte[] content) {
+        return new EncodedContent(content, null, Deflater.BEST_COMPRESSION);
+    }
+
+    /**
+     * Wraps content that has been compressed already (like content loaded from disk). The arrays must not be modified
+     * afterwards.
+     *
+     * @param content     the content
+     * @param gzipContent the gzip compressed content or {@code null} if compression does not reduce the size
+     * @return the encoded content
+     */
+    public static EncodedContent of(final byte[] content, final byte[] gzipContent) {
+        return new EncodedContent(content, gzipContent == null ? NOT_COMPRESSIBLE : gzipContent, Deflater.BEST_COMPRESSION);
+    }
+
+    public byte[] getContent() {
+        return content;
+    }
+
+    /**
+     * Returns the gzip compressed content. The content is compressed on the first call.
+     *
+     * @return the compressed content or an empty optional if compression does not reduce the size
+     */
+    public Optional<byte[]> getGzipContent() {
+        byte[] result = gzipContent;
+        if (result == null) {
+            synchronized (this) {
+                result = gzipContent;
+                if (result == null) {
+                    final byte[] compressed = GzipUtils.gzip(content, compressionLevel);
+                    result = compressed.length < content.length ? compressed : NOT_COMPRESSIBLE;
+                    gzipContent = result;
+                }
+            }
+        }
+        return result == NOT_COMPRESSIBLE ? Optional.empty() : Optional.of(result);
+    }
+}
@@ -0,0 +1,72 @@
+package net.adoptium.documentationservices.util;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Objects;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Provides methods to compress content with gzip. Content that is compressed once and served many times uses the best
+ * compression level, content that is created per request can be compressed at a faster level.
+ */
+public class GzipUtils {
+
+    /**
+     * Creates a stream that writes the gzip compressed content to the given stream with the best compression level.
+     *
+     * @param outputStream the target stream
+     * @return the compressing stream
+     * @throws IOException if the gzip header can not be written
+     */
+    public static OutputStream createOutputStream(final OutputStream outputStream) throws IOException {
+        return createOutputStream(outputStream, Deflater.BEST_COMPRESSION);
+    }
+
+    /**
+     * Creates a stream that writes the gzip compressed content to the given stream.
+     *
+     * @param outputStream the target stream
+     * @param level        the compression level (see {@link Deflater#setLevel(int)})
+     * @return the compressing stream
+     * @throws IOException if the gzip header can not be written
+     */
+    public static OutputStream createOutputStream(final OutputStream outputStream, final int level) throws IOException {
+        Objects.requireNonNull(outputStream, "outputStream must not be null");
+        return new GZIPOutputStream(outputStream, 8192) {
+            {
+                def.setLevel(level);
+            }
+        };
+    }
+
+    /**
+     * Compresses the given content with the best compression level.
+     *
+     * @param content the content
+     * @return the gzip compressed content
+     */
+    public static byte[] gzip(final byte[] content) {
+        return gzip(content, Deflater.BEST_COMPRESSION);
+    }
+
+    /**
+     * Compresses the given content.
+     *
+     * @param content the content
+     * @param level   the compression level (see {@link Deflater#setLevel(int)})
+     * @return the gzip compressed content
+     */
+    public static byte[] gzip(final byte[] content, final int level) {
+        Objects.requireNonNull(content, "content must not be null");
+        final ByteArrayOutputStream result = new ByteArrayOutputStream(Math.max(64, content.length / 4));
+        try (OutputStream outputStream = createOutputStream(result, level)) {
+            outputStream.write(content);
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Can not compress content", e);
+        }
+        return result.toByteArray();
+    }
+}
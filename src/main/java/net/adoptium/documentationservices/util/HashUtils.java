@@ -0,0 +1,99 @@
+package net.adoptium.documentationservices.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Objects;
+
+/**
+ * Provides methods to create content hashes.
+ */
+public class HashUtils {
+
+    private static final String ALGORITHM = "SHA-256";
+
+    private static final String MD5_ALGORITHM = "MD5";
+
+    private static final char[] HEX_CHARS = "0123456789abcdef".toCharArray();
+
+    /**
+     * Creates the hash of the content of the given file.
+     *
+     * @param file the file
+     * @return the hash as hex string
+     * @throws IOException if the file can not be read
+     */
+    public static String hash(final Path file) throws IOException {
+        Objects.requireNonNull(file, "file must not be null");
+        final MessageDigest digest = createDigest();
+        try (InputStream inputStream = Files.newInputStream(file)) {
+            final byte[] buffer = new byte[8192];
+            int len;
+            while ((len = inputStream.read(buffer)) > 0) {
+                digest.update(buffer, 0, len);
+            }
+        }
+        return toHex(digest.digest());
+    }
+
+    /**
+     * Creates the hash of the given values.
+     *
+     * @param values the values
+     * @return the hash as hex string
+     */
+    public static String hash(final String... values) {
+        Objects.requireNonNull(values, "values must not be null");
+        final MessageDigest digest = createDigest();
+        for (final String value : values) {
+            digest.update(Objects.requireNonNull(value, "value must not be null").getBytes(StandardCharsets.UTF_8));
+            //separator to not get the same hash for ("ab", "c") and ("a", "bc")
+            digest.update((byte) 0);
+        }
+        return toHex(digest.digest());
+    }
+
+    /**
+     * Creates the MD5 hash of the given value, as used by services like Gravatar. Must not be used for security
+     * relevant hashes.
+     *
+     * @param value the value
+     * @return the hash as hex string
+     */
+    public static String md5Hex(final String value) {
+        Objects.requireNonNull(value, "value must not be null");
+        return toHex(createDigest(MD5_ALGORITHM).digest(value.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Converts the given bytes to a lower case hex string.
+     *
+     * @param bytes the bytes
+     * @return the hex string
+     */
+    public static String toHex(final byte[] bytes) {
+        Objects.requireNonNull(bytes, "bytes must not be null");
+        final char[] result = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            result[i * 2] = HEX_CHARS[(bytes[i] >> 4) & 0xF];
+            result[i * 2 + 1] = HEX_CHARS[bytes[i] & 0xF];
+        }
+        return new String(result);
+    }
+
+    private static MessageDigest createDigest() {
+        return createDigest(ALGORITHM);
+    }
+
+    private static MessageDigest createDigest(final String algorithm) {
+        try {
+            return MessageDigest.getInstance(algorithm);
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Hash algorithm " + algorithm + " not supported", e);
+        }
+    }
+}
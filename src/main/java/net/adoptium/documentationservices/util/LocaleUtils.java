@@ -1,17 +1,136 @@
 package net.adoptium.documentationservices.util;
 
-import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.MissingResourceException;
 import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
 
+/**
+ * Resolves language codes to locales. All supported codes (ISO 639-1, ISO 639-3 and the BCP 47 tags of all available
+ * locales) and the fallbacks of the resolved locales are computed once when the class is loaded, so a lookup does not
+ * allocate.
+ */
 public class LocaleUtils {
 
+    /**
+     * Orders language codes ignoring the case and treating {@code _} like {@code -}, so {@code pt_br} is found as
+     * {@code pt-BR} without creating a normalized copy of the code
+     */
+    private static final Comparator<String> CODE_ORDER = (code1, code2) -> {
+        final int length = Math.min(code1.length(), code2.length());
+        for (int i = 0; i < length; i++) {
+            final int difference = normalize(code1.charAt(i)) - normalize(code2.charAt(i));
+            if (difference != 0) {
+                return difference;
+            }
+        }
+        return code1.length() - code2.length();
+    };
+
+    /**
+     * Locales by language code as they are normally written (like {@code pt-BR})
+     */
+    private static final Map<String, Locale> LOCALES_BY_CODE;
+
+    /**
+     * Locales by language code, ordered by {@link #CODE_ORDER}. Only used for codes that are written differently, as a
+     * lookup needs several comparisons.
+     */
+    private static final Map<String, Locale> LOCALES_BY_CODE_IGNORING_CASE;
+
+    /**
+     * The locales that should be tried (in that order) if content is requested for a locale
+     */
+    private static final Map<Locale, List<Locale>> FALLBACKS_BY_LOCALE;
+
+    static {
+        final Map<String, Locale> localesByCode = new HashMap<>();
+        for (final Locale availableLocale : Locale.getAvailableLocales()) {
+            final String language = availableLocale.getLanguage();
+            if (language.isEmpty()) {
+                continue;
+            }
+            // the language without country is the canonical locale of a language code
+            final Locale languageLocale = new Locale(language);
+            localesByCode.putIfAbsent(language, languageLocale);
+            try {
+                localesByCode.putIfAbsent(availableLocale.getISO3Language(), languageLocale);
+            } catch (final MissingResourceException e) {
+                // no ISO 639-3 code defined for the language
+            }
+            final Locale tagLocale = Locale.forLanguageTag(availableLocale.toLanguageTag());
+            localesByCode.putIfAbsent(tagLocale.toLanguageTag(), tagLocale);
+        }
+        // every locale that can be resolved has its fallbacks, so only unusual locales that are created elsewhere
+        // need to create them on request
+        final Map<Locale, List<Locale>> fallbacksByLocale = new HashMap<>();
+        for (final Locale locale : localesByCode.values()) {
+            fallbacksByLocale.computeIfAbsent(locale, LocaleUtils::createFallbacks);
+        }
+        final Map<String, Locale> localesByCodeIgnoringCase = new TreeMap<>(CODE_ORDER);
+        localesByCode.forEach(localesByCodeIgnoringCase::putIfAbsent);
+        LOCALES_BY_CODE = Collections.unmodifiableMap(localesByCode);
+        LOCALES_BY_CODE_IGNORING_CASE = Collections.unmodifiableMap(localesByCodeIgnoringCase);
+        FALLBACKS_BY_LOCALE = Collections.unmodifiableMap(fallbacksByLocale);
+    }
+
+    /**
+     * Returns the locale for the given code.
+     *
+     * @param isoCode an ISO 639-1 (like {@code de}) or ISO 639-3 (like {@code deu}) language code or a BCP 47 language
+     *                tag (like {@code pt-BR})
+     * @return the locale, for language codes it only defines the language
+     * @throws IllegalArgumentException if the code is not known
+     */
     public static Locale getBasedOnIsoCode(final String isoCode) {
         Objects.requireNonNull(isoCode, "isoCode must not be null");
-        final Locale localBasedOnIsoCode = new Locale(isoCode); // see Locale.getLanguage() javadoc to understand the creation of this instance
-        return Arrays.asList(Locale.getAvailableLocales()).stream()
-                .filter(l -> Objects.equals(localBasedOnIsoCode.getLanguage(), l.getLanguage()))
-                .findAny()
-                .orElseThrow(() -> new IllegalArgumentException("Can not find locale for iso code '" + isoCode + "'"));
+        final Locale locale = LOCALES_BY_CODE.get(isoCode);
+        if (locale != null) {
+            return locale;
+        }
+        final Locale normalizedLocale = LOCALES_BY_CODE_IGNORING_CASE.get(isoCode.trim());
+        if (normalizedLocale == null) {
+            throw new IllegalArgumentException("Can not find locale for iso code '" + isoCode + "'");
+        }
+        return normalizedLocale;
+    }
+
+    /**
+     * Returns the locales that should be tried (in that order) if content is requested in the given locale. The list
+     * starts with the locale itself, continues with less specific locales of the same language and ends with
+     * english (like {@code pt-BR, pt, en}).
+     *
+     * @param locale the requested locale
+     * @return the locales
+     */
+    public static List<Locale> getFallbacks(final Locale locale) {
+        Objects.requireNonNull(locale, "locale must not be null");
+        final List<Locale> fallbacks = FALLBACKS_BY_LOCALE.get(locale);
+        if (fallbacks != null) {
+            return fallbacks;
+        }
+        return createFallbacks(locale);
+    }
+
+    private static List<Locale> createFallbacks(final Locale locale) {
+        final Set<Locale> fallbacks = new LinkedHashSet<>();
+        fallbacks.add(locale);
+        if (!locale.getScript().isEmpty() && !locale.getCountry().isEmpty()) {
+            fallbacks.add(new Locale.Builder().setLanguage(locale.getLanguage()).setScript(locale.getScript()).build());
+        }
+        fallbacks.add(new Locale(locale.getLanguage()));
+        fallbacks.add(Locale.ENGLISH);
+        return List.copyOf(fallbacks);
+    }
+
+    private static char normalize(final char c) {
+        return c == '_' ? '-' : Character.toLowerCase(c);
     }
 }
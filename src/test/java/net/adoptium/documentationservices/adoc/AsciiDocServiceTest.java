@@ -77,6 +77,33 @@ class AsciiDocServiceTest {
         Assertions.assertEquals(expectedContent, content + System.lineSeparator()); //Auto Format adds newline to 'sample-converted.txt'
     }
 
+    @Test
+    public void testRenderForInvalidPath() {
+        //given
+        final AsciiDocService service = new AsciiDocService();
+        final Path pathToAdoc = getLocalPath("invalid.adoc");
+
+        //then
+        Assertions.assertThrows(AsciiDocException.class, () -> service.render(pathToAdoc));
+    }
+
+    @Test
+    public void testRender() throws IOException {
+        //given
+        final AsciiDocService service = new AsciiDocService();
+        final Path pathToAdoc = getLocalPath("sample.adoc");
+        final String expectedContent = Files.readString(getLocalPath("sample-converted.txt"));
+
+        //when
+        final RenderedDocument renderedDocument = service.render(pathToAdoc);
+
+        //then
+        Assertions.assertNotNull(renderedDocument);
+        Assertions.assertEquals(service.getTitle(pathToAdoc), renderedDocument.getTitle());
+        Assertions.assertEquals("A test document.", renderedDocument.getMetadata().get("description"));
+        Assertions.assertEquals(expectedContent, renderedDocument.getHtmlContent() + System.lineSeparator()); //Auto Format adds newline to 'sample-converted.txt'
+    }
+
     private Path getLocalPath(final String resourceName) {
         return Path.of(AsciiDocServiceTest.class.getResource("").getPath(), resourceName);
     }
@@ -0,0 +1,50 @@
+package net.adoptium.documentationservices.adoc;
+
+import org.asciidoctor.Options;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class AsciidoctorPoolTest {
+
+    @Test
+    public void testInvalidSize() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new AsciidoctorPool(0));
+    }
+
+    @Test
+    public void testExecute() {
+        //given
+        final AsciidoctorPool pool = new AsciidoctorPool(1);
+
+        //when
+        final String content = pool.execute(asciidoctor -> {
+            Assertions.assertEquals(1, pool.getInUse());
+            return asciidoctor.convert("Test 123", Options.builder().build());
+        });
+
+        //then
+        Assertions.assertNotNull(content);
+        Assertions.assertTrue(content.contains("Test 123"));
+        Assertions.assertEquals(0, pool.getInUse());
+        Assertions.assertEquals(1, pool.getExecutions());
+
+        pool.shutdown();
+    }
+
+    @Test
+    public void testInstanceIsReturnedOnError() {
+        //given
+        final AsciidoctorPool pool = new AsciidoctorPool(1);
+
+        //when
+        Assertions.assertThrows(IllegalStateException.class, () -> pool.execute(asciidoctor -> {
+            throw new IllegalStateException("error");
+        }));
+
+        //then
+        Assertions.assertEquals(0, pool.getInUse());
+        Assertions.assertDoesNotThrow(() -> pool.execute(asciidoctor -> asciidoctor));
+
+        pool.shutdown();
+    }
+}
@@ -0,0 +1,18 @@
+package net.adoptium.documentationservices.api;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class AcceptEncodingTest {
+
+    @Test
+    public void testAcceptsGzip() {
+        Assertions.assertTrue(AcceptEncoding.acceptsGzip("gzip, deflate, br"));
+        Assertions.assertTrue(AcceptEncoding.acceptsGzip("br;q=1.0, gzip;q=0.8"));
+        Assertions.assertTrue(AcceptEncoding.acceptsGzip("*"));
+        Assertions.assertFalse(AcceptEncoding.acceptsGzip(null));
+        Assertions.assertFalse(AcceptEncoding.acceptsGzip("identity"));
+        Assertions.assertFalse(AcceptEncoding.acceptsGzip("gzip;q=0"));
+        Assertions.assertFalse(AcceptEncoding.acceptsGzip("*, gzip;q=0"));
+    }
+}
@@ -0,0 +1,55 @@
+package net.adoptium.documentationservices.api;
+
+import net.adoptium.documentationservices.model.Document;
+import net.adoptium.documentationservices.model.Documentation;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+class AcceptLanguageTest {
+
+    private final Documentation documentation = new Documentation("installation", List.of(
+            new Document("english", "en", "htmlContent"),
+            new Document("german", "de", "htmlContent"),
+            new Document("brazilian", "pt-BR", "htmlContent")), Collections.emptyList());
+
+    @Test
+    public void testSelectDocument() {
+        Assertions.assertEquals("german", AcceptLanguage.selectDocument("de-AT, en;q=0.5", documentation).getTitle());
+        Assertions.assertEquals("german", AcceptLanguage.selectDocument("fr, de;q=0.8, en;q=0.5", documentation).getTitle());
+        Assertions.assertEquals("german", AcceptLanguage.selectDocument("en;q=0.2, de;q=0.9", documentation).getTitle());
+        Assertions.assertEquals("brazilian", AcceptLanguage.selectDocument("pt-br", documentation).getTitle());
+        Assertions.assertEquals("english", AcceptLanguage.selectDocument("pt-PT, fr", documentation).getTitle());
+        Assertions.assertEquals("english", AcceptLanguage.selectDocument("de;q=0, *", documentation).getTitle());
+    }
+
+    @Test
+    public void testWildcard() {
+        Assertions.assertEquals("english", AcceptLanguage.selectDocument("fr, *;q=0.5", documentation).getTitle());
+        Assertions.assertEquals("german", AcceptLanguage.selectDocument("en;q=0, *", documentation).getTitle());
+        Assertions.assertEquals("brazilian", AcceptLanguage.selectDocument("en;q=0, de;q=0, *", documentation).getTitle());
+        Assertions.assertEquals("brazilian", AcceptLanguage.selectDocument("de;q=0, pt-BR, *", documentation).getTitle());
+        //an excluded language is not selected by a matching range either
+        Assertions.assertEquals("brazilian", AcceptLanguage.selectDocument("de-AT, pt-BR;q=0.5, de;q=0", documentation).getTitle());
+    }
+
+    @Test
+    public void testMissingOrInvalidHeader() {
+        Assertions.assertEquals("english", AcceptLanguage.selectDocument(null, documentation).getTitle());
+        Assertions.assertEquals("english", AcceptLanguage.selectDocument("not a valid header;;", documentation).getTitle());
+        Assertions.assertTrue(AcceptLanguage.parse("not a valid header;;").isEmpty());
+    }
+
+    @Test
+    public void testParsedHeadersAreCached() {
+        //when
+        final List<Locale.LanguageRange> ranges = AcceptLanguage.parse("de-DE, de;q=0.9");
+
+        //then
+        Assertions.assertEquals("de-de", ranges.get(0).getRange());
+        Assertions.assertSame(ranges, AcceptLanguage.parse("de-DE, de;q=0.9"));
+    }
+}
@@ -0,0 +1,80 @@
+package net.adoptium.documentationservices.api;
+
+import net.adoptium.documentationservices.api.schema.DocumentRequestInfo;
+import net.adoptium.documentationservices.util.EncodedContent;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+class BatchResponseTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    @Test
+    public void testLinesAreWrittenInOrderOfCompletion() throws IOException {
+        //given
+        final CompletableFuture<EncodedContent> slowDocument = new CompletableFuture<>();
+        final List<DocumentRequestInfo> requests = List.of(new DocumentRequestInfo("slow", "en"), new DocumentRequestInfo("fast", "de"));
+        final BatchResponse response = new BatchResponse(requests, TIMEOUT, request -> request.getDocumentationId().equals("slow")
+                ? slowDocument
+                : CompletableFuture.completedFuture(EncodedContent.of("{\"title\":\"fast\"}")));
+        final ByteArrayOutputStream output = new ByteArrayOutputStream() {
+            @Override
+            public void flush() {
+                //the slow document is available once the first line has been written
+                slowDocument.complete(EncodedContent.of("{\"title\":\"slow\"}"));
+            }
+        };
+
+        //when
+        response.write(output);
+
+        //then
+        Assertions.assertEquals("{\"documentationId\":\"fast\",\"languageIsoCode\":\"de\",\"document\":{\"title\":\"fast\"}}\n"
+                        + "{\"documentationId\":\"slow\",\"languageIsoCode\":\"en\",\"document\":{\"title\":\"slow\"}}\n",
+                output.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testFailedDocument() throws IOException {
+        //given
+        final List<DocumentRequestInfo> requests = List.of(new DocumentRequestInfo("unknown\"id", "en"));
+        final BatchResponse response = new BatchResponse(requests, TIMEOUT, request -> {
+            throw new IllegalStateException("not found");
+        });
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        //when
+        response.write(output);
+
+        //then
+        Assertions.assertEquals("{\"documentationId\":\"unknown\\\"id\",\"languageIsoCode\":\"en\",\"error\":\"Can not get documentation\"}\n",
+                output.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testDocumentsThatAreNotAvailableInTime() throws IOException {
+        //given
+        final CompletableFuture<EncodedContent> pendingDocument = new CompletableFuture<>();
+        final List<DocumentRequestInfo> requests = List.of(new DocumentRequestInfo("pending", "en"), new DocumentRequestInfo("fast", "de"));
+        final BatchResponse response = new BatchResponse(requests, Duration.ofMillis(100), request -> request.getDocumentationId().equals("pending")
+                ? pendingDocument
+                : CompletableFuture.completedFuture(EncodedContent.of("{\"title\":\"fast\"}")));
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        //when
+        response.write(output);
+
+        //then
+        Assertions.assertEquals("{\"documentationId\":\"fast\",\"languageIsoCode\":\"de\",\"document\":{\"title\":\"fast\"}}\n"
+                        + "{\"documentationId\":\"pending\",\"languageIsoCode\":\"en\",\"error\":\"Documentation not available in time\"}\n",
+                output.toString(StandardCharsets.UTF_8));
+        Assertions.assertTrue(pendingDocument.isCancelled());
+    }
+}
@@ -0,0 +1,45 @@
+package net.adoptium.documentationservices.api;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+class ByteRangeTest {
+
+    @Test
+    public void testRanges() {
+        //when
+        final ByteRange range = ByteRange.parse("bytes=0-99", 1000).orElseThrow();
+        final ByteRange openRange = ByteRange.parse("bytes=900-", 1000).orElseThrow();
+        final ByteRange suffixRange = ByteRange.parse("bytes=-100", 1000).orElseThrow();
+        final ByteRange cappedRange = ByteRange.parse("bytes=950-2000", 1000).orElseThrow();
+
+        //then
+        Assertions.assertEquals("bytes 0-99/1000", range.toContentRange());
+        Assertions.assertEquals(100, range.getLength());
+        Assertions.assertEquals("bytes 900-999/1000", openRange.toContentRange());
+        Assertions.assertEquals("bytes 900-999/1000", suffixRange.toContentRange());
+        Assertions.assertEquals("bytes 950-999/1000", cappedRange.toContentRange());
+        Assertions.assertEquals(50, cappedRange.getLength());
+    }
+
+    @Test
+    public void testUnsatisfiableRange() {
+        //when
+        final ByteRange range = ByteRange.parse("bytes=1000-", 1000).orElseThrow();
+
+        //then
+        Assertions.assertFalse(range.isSatisfiable());
+        Assertions.assertEquals("bytes */1000", range.toContentRange());
+    }
+
+    @Test
+    public void testIgnoredRanges() {
+        Assertions.assertEquals(Optional.empty(), ByteRange.parse(null, 1000));
+        Assertions.assertEquals(Optional.empty(), ByteRange.parse("bytes=0-1,5-6", 1000));
+        Assertions.assertEquals(Optional.empty(), ByteRange.parse("bytes=5-1", 1000));
+        Assertions.assertEquals(Optional.empty(), ByteRange.parse("items=0-1", 1000));
+        Assertions.assertEquals(Optional.empty(), ByteRange.parse("bytes=-", 1000));
+    }
+}
@@ -0,0 +1,304 @@
+package net.adoptium.documentationservices.api;
+
+import net.adoptium.documentationservices.adoc.AsciiDocService;
+import net.adoptium.documentationservices.services.DocumentationService;
+import net.adoptium.documentationservices.services.RepoService;
+import net.adoptium.documentationservices.testutils.TestUtils;
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.api.errors.GitAPIException;
+import org.eclipse.jgit.lib.PersonIdent;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Request;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.Variant;
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TimeZone;
+
+/**
+ * Tests the responses of the {@link DocumentationEndpoint} for a local repository.
+ */
+class DocumentationEndpointResponseTest {
+
+    private static final ZonedDateTime COMMIT_TIME = ZonedDateTime.parse("2021-06-01T12:00:00Z");
+
+    private static AsciiDocService asciiDocService;
+
+    private Path tempDir;
+
+    private Path originDir;
+
+    private Git origin;
+
+    private RepoService repoService;
+
+    private DocumentationService documentationService;
+
+    @BeforeAll
+    public static void initAsciiDoc() {
+        asciiDocService = new AsciiDocService();
+    }
+
+    @AfterAll
+    public static void shutdownAsciiDoc() {
+        asciiDocService.shutdown();
+    }
+
+    @BeforeEach
+    public void init() throws IOException, GitAPIException {
+        tempDir = Files.createTempDirectory("documentation-endpoint-test");
+        originDir = tempDir.resolve("origin");
+        origin = Git.init().setDirectory(originDir.toFile()).call();
+        commit("installation/index.adoc", "= Installation\n\n" + "Install Temurin on your machine.\n\n".repeat(20));
+        commit("installation/index_de.adoc", "= Installation\n\nTemurin installieren.\n");
+        repoService = new RepoService("adoptium/documentation", RepoService.GITHUB_API_URL, Optional.of(originDir.toUri().toString()), Optional.empty());
+        documentationService = new DocumentationService(repoService, asciiDocService);
+        //renders the current snapshot like the startup of the service does
+        documentationService.warmUp();
+    }
+
+    @AfterEach
+    public void cleanup() throws IOException {
+        origin.close();
+        documentationService.shutdown();
+        repoService.clear();
+        TestUtils.deleteTempFile(tempDir);
+    }
+
+    @Test
+    public void testValidatorsAreBasedOnCommit() throws IOException {
+        //given
+        final Response response = createEndpoint(Map.of()).getHtmlContent("installation", "en");
+
+        //when
+        repoService.downloadRepositoryContent();
+        final Response responseOfNewSnapshot = createEndpoint(Map.of()).getHtmlContent("installation", "en");
+
+        //then
+        Assertions.assertEquals(Response.Status.OK.getStatusCode(), response.getStatus());
+        Assertions.assertEquals(Date.from(COMMIT_TIME.toInstant()), response.getLastModified());
+        Assertions.assertEquals(response.getEntityTag(), responseOfNewSnapshot.getEntityTag());
+        Assertions.assertEquals(response.getLastModified(), responseOfNewSnapshot.getLastModified());
+    }
+
+    @Test
+    public void testNotModified() {
+        //given
+        final EntityTag entityTag = createEndpoint(Map.of()).getMetadata("installation", "de").getEntityTag();
+
+        //when
+        final Response response = createEndpoint(Map.of(HttpHeaders.IF_NONE_MATCH, entityTag.toString())).getMetadata("installation", "de");
+        final Response responseOfOtherLanguage = createEndpoint(Map.of(HttpHeaders.IF_NONE_MATCH, entityTag.toString())).getMetadata("installation", "en");
+
+        //then
+        Assertions.assertEquals(Response.Status.NOT_MODIFIED.getStatusCode(), response.getStatus());
+        Assertions.assertEquals(Response.Status.OK.getStatusCode(), responseOfOtherLanguage.getStatus());
+    }
+
+    @Test
+    public void testUnknownDocumentation() {
+        //given
+        final Map<String, String> headers = Map.of(HttpHeaders.IF_MODIFIED_SINCE, "Fri, 31 Dec 2100 23:59:59 GMT");
+
+        //then
+        Assertions.assertEquals(Response.Status.NOT_MODIFIED.getStatusCode(), createEndpoint(headers).getHtmlContent("installation", "en").getStatus());
+        Assertions.assertEquals(Response.Status.NOT_FOUND.getStatusCode(), createEndpoint(headers).getHtmlContent("unknown", "en").getStatus());
+        Assertions.assertEquals(Response.Status.NOT_FOUND.getStatusCode(), createEndpoint(headers).getDocumentation("unknown", "en").getStatus());
+        Assertions.assertEquals(Response.Status.NOT_FOUND.getStatusCode(), createEndpoint(headers).getDocumentation("unknown").getStatus());
+        Assertions.assertEquals(Response.Status.NOT_FOUND.getStatusCode(), createEndpoint(headers).getMetadata("unknown", "en").getStatus());
+        Assertions.assertEquals(Response.Status.NOT_FOUND.getStatusCode(), createEndpoint(headers).getMetadata("..", "en").getStatus());
+        Assertions.assertEquals(Response.Status.NOT_FOUND.getStatusCode(), createEndpoint(headers).getMetadata("installation", "invalid").getStatus());
+    }
+
+    @Test
+    public void testDocumentationByAcceptLanguage() {
+        //when
+        final Response response = createEndpoint(Map.of(HttpHeaders.ACCEPT_LANGUAGE, "de-AT, en;q=0.5")).getDocumentation("installation");
+        final Response responseWithoutGerman = createEndpoint(Map.of(HttpHeaders.ACCEPT_LANGUAGE, "de;q=0, *")).getDocumentation("installation");
+
+        //then
+        Assertions.assertTrue(new String((byte[]) response.getEntity(), StandardCharsets.UTF_8).contains("\"languageIsoCode\":\"de\""));
+        Assertions.assertTrue(new String((byte[]) responseWithoutGerman.getEntity(), StandardCharsets.UTF_8).contains("\"languageIsoCode\":\"en\""));
+        Assertions.assertNotEquals(response.getEntityTag(), responseWithoutGerman.getEntityTag());
+        Assertions.assertEquals("Accept-Encoding, Accept-Language", response.getHeaderString(HttpHeaders.VARY));
+    }
+
+    @Test
+    public void testMetadata() {
+        //when
+        final Response response = createEndpoint(Map.of()).getMetadata("installation", "de");
+
+        //then
+        Assertions.assertEquals(Response.Status.OK.getStatusCode(), response.getStatus());
+        Assertions.assertTrue(MediaType.APPLICATION_JSON_TYPE.isCompatible(response.getMediaType()), response.getMediaType().toString());
+        final String json = new String((byte[]) response.getEntity(), StandardCharsets.UTF_8);
+        Assertions.assertTrue(json.contains("\"lastUpdate\":\"" + COMMIT_TIME.format(DateTimeFormatter.ISO_OFFSET_DATE_TIME) + "\""), json);
+        Assertions.assertTrue(json.contains("\"languageIsoCode\":\"de\""), json);
+    }
+
+    @Test
+    public void testDocumentation() {
+        //when
+        final Response response = createEndpoint(Map.of()).getDocumentation("installation", "de");
+
+        //then
+        Assertions.assertEquals(Response.Status.OK.getStatusCode(), response.getStatus());
+        Assertions.assertTrue(MediaType.APPLICATION_JSON_TYPE.isCompatible(response.getMediaType()), response.getMediaType().toString());
+        final String json = new String((byte[]) response.getEntity(), StandardCharsets.UTF_8);
+        Assertions.assertTrue(json.contains("\"languageIsoCode\":\"de\""), json);
+        Assertions.assertTrue(json.contains("Temurin installieren."), json);
+    }
+
+    @Test
+    public void testCompressedHtmlContent() {
+        //when
+        final Response response = createEndpoint(Map.of()).getHtmlContent("installation", "en");
+        final Response compressedResponse = createEndpoint(Map.of(HttpHeaders.ACCEPT_ENCODING, "gzip")).getHtmlContent("installation", "en");
+
+        //then
+        final String html = new String((byte[]) response.getEntity(), StandardCharsets.UTF_8);
+        Assertions.assertTrue(html.contains("Install Temurin on your machine."), html);
+        Assertions.assertNull(response.getHeaderString(HttpHeaders.CONTENT_ENCODING));
+        Assertions.assertEquals("gzip", compressedResponse.getHeaderString(HttpHeaders.CONTENT_ENCODING));
+        Assertions.assertNotEquals(response.getEntityTag(), compressedResponse.getEntityTag());
+    }
+
+    @Test
+    public void testHtmlContent() {
+        //when
+        final Response response = createEndpoint(Map.of()).getHtmlContent("installation", "de");
+
+        //then
+        Assertions.assertEquals(Response.Status.OK.getStatusCode(), response.getStatus());
+        Assertions.assertEquals(MediaType.TEXT_HTML_TYPE.withCharset(StandardCharsets.UTF_8.name()), response.getMediaType());
+        final String html = new String((byte[]) response.getEntity(), StandardCharsets.UTF_8);
+        Assertions.assertTrue(html.contains("Temurin installieren."), html);
+        Assertions.assertFalse(html.contains("languageIsoCode"), html);
+    }
+
+    @Test
+    public void testHtmlContentOfNewSnapshot() throws IOException, GitAPIException {
+        //given
+        final Response response = createEndpoint(Map.of()).getHtmlContent("installation", "de");
+
+        //when
+        commit("installation/index_de.adoc", "= Installation\n\nTemurin auf dem Rechner installieren.\n");
+        repoService.downloadRepositoryContent();
+        final Response responseOfNewSnapshot = createEndpoint(Map.of()).getHtmlContent("installation", "de");
+
+        //then
+        Assertions.assertTrue(new String((byte[]) response.getEntity(), StandardCharsets.UTF_8).contains("Temurin installieren."));
+        Assertions.assertTrue(new String((byte[]) responseOfNewSnapshot.getEntity(), StandardCharsets.UTF_8).contains("Temurin auf dem Rechner installieren."));
+        Assertions.assertNotEquals(response.getEntityTag(), responseOfNewSnapshot.getEntityTag());
+    }
+
+    @Test
+    public void testMetadataIsCachedPerSnapshot() throws IOException, GitAPIException {
+        //given
+        final Response response = createEndpoint(Map.of()).getMetadata("installation", "en");
+
+        //when
+        final Response cachedResponse = createEndpoint(Map.of()).getMetadata("installation", "en");
+        commit("installation/index_fr.adoc", "= Installation\n\nInstaller Temurin.\n");
+        repoService.downloadRepositoryContent();
+        final Response responseOfNewSnapshot = createEndpoint(Map.of()).getMetadata("installation", "en");
+
+        //then
+        Assertions.assertSame(response.getEntity(), cachedResponse.getEntity());
+        Assertions.assertFalse(new String((byte[]) response.getEntity(), StandardCharsets.UTF_8).contains("fra"));
+        Assertions.assertTrue(new String((byte[]) responseOfNewSnapshot.getEntity(), StandardCharsets.UTF_8).contains("fra"));
+        Assertions.assertNotEquals(response.getEntityTag(), responseOfNewSnapshot.getEntityTag());
+    }
+
+    private void commit(final String path, final String content) throws IOException, GitAPIException {
+        final Path file = originDir.resolve(path);
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, content);
+        final PersonIdent author = new PersonIdent("John Doe", "12345+jdoe@users.noreply.github.com", Date.from(COMMIT_TIME.toInstant()), TimeZone.getTimeZone("UTC"));
+        origin.add().addFilepattern(path).call();
+        origin.commit().setMessage("Update " + path).setAuthor(author).setCommitter(author).call();
+    }
+
+    private DocumentationEndpoint createEndpoint(final Map<String, String> headers) {
+        return new DocumentationEndpoint(documentationService, new TestRequest(headers), createHttpHeaders(headers));
+    }
+
+    private static HttpHeaders createHttpHeaders(final Map<String, String> headers) {
+        return (HttpHeaders) Proxy.newProxyInstance(HttpHeaders.class.getClassLoader(), new Class<?>[]{HttpHeaders.class}, (proxy, method, args) -> {
+            if (method.getName().equals("getHeaderString")) {
+                return headers.get((String) args[0]);
+            }
+            throw new UnsupportedOperationException(method.getName());
+        });
+    }
+
+    /**
+     * Evaluates the {@code If-None-Match} and {@code If-Modified-Since} headers of a GET request.
+     */
+    private static class TestRequest implements Request {
+
+        private final Map<String, String> headers;
+
+        private TestRequest(final Map<String, String> headers) {
+            this.headers = new HashMap<>(headers);
+        }
+
+        @Override
+        public String getMethod() {
+            return "GET";
+        }
+
+        @Override
+        public Variant selectVariant(final List<Variant> variants) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Response.ResponseBuilder evaluatePreconditions(final EntityTag eTag) {
+            return evaluatePreconditions(null, eTag);
+        }
+
+        @Override
+        public Response.ResponseBuilder evaluatePreconditions(final Date lastModified) {
+            return evaluatePreconditions(lastModified, null);
+        }
+
+        @Override
+        public Response.ResponseBuilder evaluatePreconditions(final Date lastModified, final EntityTag eTag) {
+            final String ifNoneMatch = headers.get(HttpHeaders.IF_NONE_MATCH);
+            if (ifNoneMatch != null) {
+                return eTag != null && ifNoneMatch.equals(eTag.toString()) ? Response.notModified(eTag) : null;
+            }
+            final String ifModifiedSince = headers.get(HttpHeaders.IF_MODIFIED_SINCE);
+            if (ifModifiedSince != null && lastModified != null) {
+                final ZonedDateTime since = ZonedDateTime.parse(ifModifiedSince, DateTimeFormatter.RFC_1123_DATE_TIME);
+                return lastModified.toInstant().isAfter(since.toInstant()) ? null : Response.notModified();
+            }
+            return null;
+        }
+
+        @Override
+        public Response.ResponseBuilder evaluatePreconditions() {
+            return null;
+        }
+    }
+}
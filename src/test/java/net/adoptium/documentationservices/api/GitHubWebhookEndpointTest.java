@@ -0,0 +1,114 @@
+package net.adoptium.documentationservices.api;
+
+import net.adoptium.documentationservices.services.RepoUpdateScheduler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.ws.rs.core.Response;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class GitHubWebhookEndpointTest {
+
+    private static final String SECRET = "secret";
+
+    private final AtomicInteger refreshCount = new AtomicInteger();
+
+    private final CountDownLatch refreshed = new CountDownLatch(1);
+
+    private RepoUpdateScheduler updateScheduler;
+
+    @BeforeEach
+    public void init() {
+        updateScheduler = new RepoUpdateScheduler(() -> {
+        }, () -> {
+            refreshCount.incrementAndGet();
+            refreshed.countDown();
+        }, Duration.ofMillis(50));
+    }
+
+    @AfterEach
+    public void cleanup() {
+        updateScheduler.shutdown();
+    }
+
+    @Test
+    public void testPushToDefaultBranch() throws InterruptedException {
+        //given
+        final GitHubWebhookEndpoint endpoint = new GitHubWebhookEndpoint(SECRET, "adoptium/documentation", updateScheduler);
+        final byte[] payload = createPushEvent("refs/heads/main", "adoptium/documentation");
+
+        //when
+        final Response response = endpoint.onEvent("push", GitHubWebhookSignature.sign(SECRET, payload), payload);
+
+        //then
+        Assertions.assertEquals(Response.Status.ACCEPTED.getStatusCode(), response.getStatus());
+        Assertions.assertTrue(refreshed.await(5, TimeUnit.SECONDS));
+        Assertions.assertEquals(1, refreshCount.get());
+    }
+
+    @Test
+    public void testPushToOtherBranch() {
+        //given
+        final GitHubWebhookEndpoint endpoint = new GitHubWebhookEndpoint(SECRET, "adoptium/documentation", updateScheduler);
+        final byte[] payload = createPushEvent("refs/heads/feature", "adoptium/documentation");
+
+        //when
+        final Response response = endpoint.onEvent("push", GitHubWebhookSignature.sign(SECRET, payload), payload);
+
+        //then
+        Assertions.assertEquals(Response.Status.NO_CONTENT.getStatusCode(), response.getStatus());
+        Assertions.assertEquals(0, refreshCount.get());
+    }
+
+    @Test
+    public void testPushToOtherRepository() {
+        //given
+        final GitHubWebhookEndpoint endpoint = new GitHubWebhookEndpoint(SECRET, "adoptium/documentation", updateScheduler);
+        final byte[] payload = createPushEvent("refs/heads/main", "adoptium/other");
+
+        //when
+        final Response response = endpoint.onEvent("push", GitHubWebhookSignature.sign(SECRET, payload), payload);
+
+        //then
+        Assertions.assertEquals(Response.Status.BAD_REQUEST.getStatusCode(), response.getStatus());
+        Assertions.assertEquals(0, refreshCount.get());
+    }
+
+    @Test
+    public void testInvalidSignature() {
+        //given
+        final GitHubWebhookEndpoint endpoint = new GitHubWebhookEndpoint(SECRET, "adoptium/documentation", updateScheduler);
+        final byte[] payload = createPushEvent("refs/heads/main", "adoptium/documentation");
+
+        //when
+        final Response response = endpoint.onEvent("push", GitHubWebhookSignature.sign("other-secret", payload), payload);
+
+        //then
+        Assertions.assertEquals(Response.Status.FORBIDDEN.getStatusCode(), response.getStatus());
+        Assertions.assertEquals(0, refreshCount.get());
+    }
+
+    @Test
+    public void testWithoutSecret() {
+        //given
+        final GitHubWebhookEndpoint endpoint = new GitHubWebhookEndpoint(null, "adoptium/documentation", updateScheduler);
+        final byte[] payload = createPushEvent("refs/heads/main", "adoptium/documentation");
+
+        //when
+        final Response response = endpoint.onEvent("push", GitHubWebhookSignature.sign(SECRET, payload), payload);
+
+        //then
+        Assertions.assertEquals(Response.Status.NOT_FOUND.getStatusCode(), response.getStatus());
+    }
+
+    private static byte[] createPushEvent(final String ref, final String repository) {
+        return ("{\"ref\":\"" + ref + "\",\"repository\":{\"full_name\":\"" + repository + "\",\"default_branch\":\"main\"}}")
+                .getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,36 @@
+package net.adoptium.documentationservices.api;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+class GitHubWebhookSignatureTest {
+
+    @Test
+    public void testKnownSignature() {
+        //given
+        final byte[] payload = "Hello, World!".getBytes(StandardCharsets.UTF_8);
+
+        //when
+        final String signature = GitHubWebhookSignature.sign("It's a Secret to Everybody", payload);
+
+        //then
+        //example taken from the GitHub documentation about validating webhook deliveries
+        Assertions.assertEquals("sha256=757107ea0eb2509fc211221cce984b8a37570b6d7586c22c46f4379c8b043e17", signature);
+        Assertions.assertTrue(GitHubWebhookSignature.isValid("It's a Secret to Everybody", payload, signature));
+    }
+
+    @Test
+    public void testInvalidSignature() {
+        //given
+        final byte[] payload = "{\"ref\":\"refs/heads/main\"}".getBytes(StandardCharsets.UTF_8);
+        final String signature = GitHubWebhookSignature.sign("secret", payload);
+
+        //then
+        Assertions.assertFalse(GitHubWebhookSignature.isValid("other-secret", payload, signature));
+        Assertions.assertFalse(GitHubWebhookSignature.isValid("secret", "{}".getBytes(StandardCharsets.UTF_8), signature));
+        Assertions.assertFalse(GitHubWebhookSignature.isValid("secret", payload, signature.substring("sha256=".length())));
+        Assertions.assertFalse(GitHubWebhookSignature.isValid("secret", payload, null));
+    }
+}
@@ -0,0 +1,28 @@
+package net.adoptium.documentationservices.api;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import javax.ws.rs.core.MediaType;
+
+class MediaTypesTest {
+
+    @Test
+    public void testKnownTypes() {
+        Assertions.assertEquals(new MediaType("image", "png"), MediaTypes.forFile("installation/images/setup.PNG"));
+        Assertions.assertEquals(new MediaType("text", "css", "UTF-8"), MediaTypes.forFile("style.css"));
+    }
+
+    @Test
+    public void testActiveContentIsNotRendered() {
+        Assertions.assertEquals(MediaType.APPLICATION_OCTET_STREAM_TYPE, MediaTypes.forFile("installation/index.html"));
+        Assertions.assertEquals(MediaType.APPLICATION_OCTET_STREAM_TYPE, MediaTypes.forFile("installation/index.htm"));
+        Assertions.assertEquals(MediaType.APPLICATION_OCTET_STREAM_TYPE, MediaTypes.forFile("script.js"));
+    }
+
+    @Test
+    public void testUnknownTypes() {
+        Assertions.assertEquals(MediaType.APPLICATION_OCTET_STREAM_TYPE, MediaTypes.forFile("installation/file.unknown"));
+        Assertions.assertEquals(MediaType.APPLICATION_OCTET_STREAM_TYPE, MediaTypes.forFile("some.folder/README"));
+    }
+}
@@ -1,11 +1,15 @@
 package net.adoptium.documentationservices.model;
 
 
+import net.adoptium.documentationservices.adoc.RenderedDocument;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.util.Collections;
 import java.util.Locale;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 class DocumentTest {
 
@@ -139,4 +143,56 @@ class DocumentTest {
         Assertions.assertFalse(Objects.equals(document2, document1));
     }
 
+    @Test
+    public void testLazyRendering() {
+        //given
+        final AtomicInteger renderCount = new AtomicInteger();
+        final Locale locale = Locale.GERMAN;
+
+        //when
+        final Document document = new Document(locale, "docs/index_de.adoc", () -> {
+            renderCount.incrementAndGet();
+            return new RenderedDocument("name", Collections.emptyMap(), "htmlContent");
+        });
+
+        //then
+        Assertions.assertEquals(locale, document.getLocale());
+        Assertions.assertFalse(document.isRendered());
+        Assertions.assertEquals(0, renderCount.get());
+        Assertions.assertEquals("name", document.getTitle());
+        Assertions.assertEquals("htmlContent", document.getHtmlContent());
+        Assertions.assertTrue(document.isRendered());
+        Assertions.assertEquals(1, renderCount.get());
+    }
+
+    @Test
+    public void testLazyRenderingWithoutTitle() {
+        //given
+        final Document document = new Document(Locale.GERMAN, "docs/index_de.adoc", () -> new RenderedDocument(null, Collections.emptyMap(), "htmlContent"));
+
+        //then
+        Assertions.assertThrows(NullPointerException.class, () -> document.getTitle());
+    }
+
+    @Test
+    public void testEqualsWithoutRendering() {
+        //given
+        final AtomicInteger renderCount = new AtomicInteger();
+        final Supplier<RenderedDocument> renderer = () -> {
+            renderCount.incrementAndGet();
+            return new RenderedDocument("name", Collections.emptyMap(), "htmlContent");
+        };
+
+        //when
+        final Document document1 = new Document(Locale.GERMAN, "docs/index_de.adoc", renderer);
+        final Document document2 = new Document(Locale.GERMAN, "docs/index_de.adoc", renderer);
+        final Document document3 = new Document(Locale.GERMAN, "other/index_de.adoc", renderer);
+
+        //then
+        Assertions.assertEquals(document1, document2);
+        Assertions.assertEquals(document1.hashCode(), document2.hashCode());
+        Assertions.assertNotEquals(document1, document3);
+        Assertions.assertNotEquals(document1, new Document("name", Locale.GERMAN, "htmlContent"));
+        Assertions.assertEquals(0, renderCount.get());
+    }
 }
@@ -5,6 +5,8 @@ import org.junit.jupiter.api.Test;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
 import java.util.Objects;
 import java.util.Set;
 
@@ -134,4 +136,31 @@ class DocumentationTest {
         Assertions.assertTrue(Objects.equals(documentation3, documentation2));
     }
 
+    @Test
+    public void testGetDocumentWithFallback() {
+        //given
+        final Collection<Document> documents = List.of(new Document("english", "en", "htmlContent"), new Document("portuguese", "pt", "htmlContent"));
+        final Documentation documentation = new Documentation("ID", documents, Collections.emptyList());
+
+        //when
+        final Document brazilianDocument = documentation.getDocument(new Locale("pt", "BR"));
+        final Document germanDocument = documentation.getDocument(Locale.GERMAN);
+
+        //then
+        Assertions.assertEquals("portuguese", brazilianDocument.getTitle());
+        Assertions.assertEquals("english", germanDocument.getTitle());
+        Assertions.assertTrue(documentation.findDocument(Locale.GERMAN).isEmpty());
+        Assertions.assertEquals("english", documentation.findDocument(Locale.US).map(Document::getTitle).orElse(null));
+    }
+
+    @Test
+    public void testDuplicateLocale() {
+        //given
+        final String id = "ID";
+        final Collection<Document> documents = List.of(new Document("title", "en", "htmlContent"), new Document("other title", Locale.ENGLISH, "htmlContent"));
+        final Collection<Contributor> contributors = Collections.emptyList();
+
+        //then
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new Documentation(id, documents, contributors));
+    }
 }
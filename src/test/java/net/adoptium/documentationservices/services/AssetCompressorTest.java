@@ -0,0 +1,74 @@
+package net.adoptium.documentationservices.services;
+
+import net.adoptium.documentationservices.testutils.TestUtils;
+import net.adoptium.documentationservices.util.GzipUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.ZonedDateTime;
+import java.util.Optional;
+import java.util.zip.GZIPInputStream;
+
+class AssetCompressorTest {
+
+    private Path tempDir;
+
+    @BeforeEach
+    public void init() throws IOException {
+        tempDir = Files.createTempDirectory("asset-compressor-test");
+    }
+
+    @AfterEach
+    public void cleanup() throws IOException {
+        TestUtils.deleteTempFile(tempDir);
+    }
+
+    @Test
+    public void testCompressTextAssets() throws IOException {
+        //given
+        final String svg = "<svg xmlns=\"http://www.w3.org/2000/svg\">" + "<rect width=\"10\" height=\"10\"/>".repeat(100) + "</svg>";
+        Files.createDirectories(tempDir.resolve("installation/images"));
+        Files.writeString(tempDir.resolve("installation/images/logo.svg"), svg);
+        Files.writeString(tempDir.resolve("installation/index.adoc"), "= Installation\n".repeat(100));
+        Files.writeString(tempDir.resolve("installation/tiny.css"), "a{}");
+
+        //when
+        final int count = AssetCompressor.compress(tempDir);
+
+        //then
+        Assertions.assertEquals(1, count);
+        try (InputStream inputStream = new GZIPInputStream(Files.newInputStream(tempDir.resolve("installation/images/logo.svg.compressed.gz")))) {
+            Assertions.assertEquals(svg, new String(inputStream.readAllBytes(), StandardCharsets.UTF_8));
+        }
+        Assertions.assertFalse(Files.exists(tempDir.resolve("installation/index.adoc.compressed.gz")));
+        Assertions.assertFalse(Files.exists(tempDir.resolve("installation/tiny.css.compressed.gz")));
+    }
+
+    @Test
+    public void testKeepGzipFilesOfRepository() throws IOException {
+        //given
+        final byte[] archive = GzipUtils.gzip("<svg/>".repeat(100).getBytes(StandardCharsets.UTF_8));
+        Files.writeString(tempDir.resolve("logo.svg"), "<svg/>".repeat(100));
+        Files.write(tempDir.resolve("logo.svg.gz"), archive);
+        final RepoSnapshot snapshot = new RepoSnapshot("1", null, tempDir, ZonedDateTime.now());
+
+        //when
+        final int count = AssetCompressor.compress(tempDir);
+
+        //then
+        Assertions.assertEquals(1, count);
+        Assertions.assertArrayEquals(archive, Files.readAllBytes(tempDir.resolve("logo.svg.gz")));
+        Assertions.assertEquals(Optional.of(tempDir.resolve("logo.svg.gz")), snapshot.resolveFile(Path.of("logo.svg.gz")));
+        Assertions.assertFalse(Files.exists(tempDir.resolve("logo.svg.gz.compressed.gz")));
+        Assertions.assertEquals(Optional.of(tempDir.resolve("logo.svg.compressed.gz")), snapshot.resolveCompressedFile(Path.of("logo.svg")));
+        //the generated variant is not served at its own path
+        Assertions.assertEquals(Optional.empty(), snapshot.resolveFile(Path.of("logo.svg.compressed.gz")));
+    }
+}
@@ -1,14 +1,72 @@
 package net.adoptium.documentationservices.services;
 
 import net.adoptium.documentationservices.adoc.AsciiDocService;
+import net.adoptium.documentationservices.adoc.RenderedDocument;
 import net.adoptium.documentationservices.model.Documentation;
+import net.adoptium.documentationservices.model.TableOfContents;
+import net.adoptium.documentationservices.testutils.TestUtils;
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.api.errors.GitAPIException;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 class DocumentationServiceTest {
 
+    private static AsciiDocService localAsciiDocService;
+
+    private Path tempDir;
+
+    private Path originDir;
+
+    private Git origin;
+
+    /**
+     * Reads the content of a local git repository, so the tests run without network access
+     */
+    private RepoService localRepoService;
+
+    @BeforeAll
+    public static void initAsciiDoc() {
+        localAsciiDocService = new AsciiDocService();
+    }
+
+    @AfterAll
+    public static void shutdownAsciiDoc() {
+        localAsciiDocService.shutdown();
+    }
+
+    @BeforeEach
+    public void init() throws IOException, GitAPIException {
+        tempDir = Files.createTempDirectory("documentation-service-test");
+        originDir = tempDir.resolve("origin");
+        origin = Git.init().setDirectory(originDir.toFile()).call();
+        commit("installation/index.adoc", "= Installation\n\nInstall Temurin.\n");
+        commit("installation/index_de.adoc", "= Installation\n\nTemurin installieren.\n");
+        commit("documentation-vision/index.adoc", "= Vision\n\nOur vision for the documentation.\n");
+        localRepoService = new RepoService("adoptium/documentation", RepoService.GITHUB_API_URL, Optional.of(originDir.toUri().toString()), Optional.empty());
+    }
+
+    @AfterEach
+    public void cleanup() throws IOException {
+        origin.close();
+        localRepoService.clear();
+        TestUtils.deleteTempFile(tempDir);
+    }
+
     @Test
     public void testGetDocumentation() throws IOException {
         //given
@@ -23,4 +81,152 @@ class DocumentationServiceTest {
         Assertions.assertNotNull(documentation);
     }
 
+    @Test
+    public void testGetDocumentationFromCache() throws IOException {
+        //given
+        final DocumentationService documentationService = new DocumentationService(localRepoService, localAsciiDocService);
+
+        //when
+        final Documentation documentation1 = documentationService.getDocumentation("documentation-vision");
+        final Documentation documentation2 = documentationService.getDocumentation("documentation-vision");
+
+        //then
+        Assertions.assertSame(documentation1, documentation2);
+        documentationService.shutdown();
+    }
+
+    @Test
+    public void testGetTableOfContents() throws IOException {
+        //given
+        final DocumentationService documentationService = new DocumentationService(localRepoService, localAsciiDocService);
+
+        //when
+        final TableOfContents tableOfContents1 = documentationService.getTableOfContents();
+        final TableOfContents tableOfContents2 = documentationService.getTableOfContents();
+
+        //then
+        Assertions.assertSame(tableOfContents1, tableOfContents2);
+        Assertions.assertTrue(tableOfContents1.getDocumentations().anyMatch(d -> d.getId().equals("documentation-vision")));
+        Assertions.assertSame(documentationService.getDocumentation("documentation-vision"),
+                tableOfContents1.getDocumentations().filter(d -> d.getId().equals("documentation-vision")).findAny().orElse(null));
+        documentationService.shutdown();
+    }
+
+    @Test
+    public void testPreviousDocumentationsAreServedUntilNewSnapshotIsRendered() throws Exception {
+        //given
+        final BlockingAsciiDocService blockingAsciiDocService = new BlockingAsciiDocService();
+        final DocumentationService documentationService = new DocumentationService(localRepoService, blockingAsciiDocService);
+        documentationService.warmUp();
+        final RepoSnapshot previousSnapshot = documentationService.getDocumentationSnapshot().orElseThrow().getRepoSnapshot();
+        final Documentation previousDocumentation = documentationService.getDocumentation("documentation-vision");
+        commit("documentation-new/index.adoc", "= New\n\nA new documentation.\n");
+        blockingAsciiDocService.block();
+
+        //when
+        final CompletableFuture<Void> download = CompletableFuture.runAsync(() -> {
+            try {
+                localRepoService.downloadRepositoryContent();
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        Assertions.assertTrue(blockingAsciiDocService.awaitBlockedRender());
+        final RepoSnapshot snapshotWhileRendering = documentationService.getDocumentationSnapshot().orElseThrow().getRepoSnapshot();
+        final Documentation documentationWhileRendering = documentationService.getDocumentation("documentation-vision");
+        final boolean newDocumentationVisibleWhileRendering = documentationService.getTableOfContents().getDocumentations()
+                .anyMatch(d -> d.getId().equals("documentation-new"));
+        blockingAsciiDocService.release();
+        download.get(30, TimeUnit.SECONDS);
+
+        //then
+        Assertions.assertSame(previousSnapshot, snapshotWhileRendering);
+        Assertions.assertSame(previousDocumentation, documentationWhileRendering);
+        Assertions.assertFalse(newDocumentationVisibleWhileRendering);
+        final DocumentationSnapshot currentSnapshot = documentationService.getDocumentationSnapshot().orElseThrow();
+        Assertions.assertNotSame(previousSnapshot, currentSnapshot.getRepoSnapshot());
+        Assertions.assertSame(localRepoService.getCurrentSnapshot(), currentSnapshot.getRepoSnapshot());
+        Assertions.assertEquals(3, currentSnapshot.getTableOfContents().getDocumentations().count());
+        Assertions.assertTrue(currentSnapshot.getTableOfContents().getDocumentations()
+                .flatMap(Documentation::getDocuments)
+                .allMatch(d -> d.isRendered()));
+        documentationService.shutdown();
+        blockingAsciiDocService.shutdown();
+    }
+
+    @Test
+    public void testCancelledBatchTaskIsDropped() throws Exception {
+        //given
+        final DocumentationService documentationService = new DocumentationService(localRepoService, localAsciiDocService);
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicBoolean cancelledTaskStarted = new AtomicBoolean(false);
+        final CompletableFuture<Void> runningTask = documentationService.supplyBatchAsync(() -> {
+            try {
+                release.await();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return null;
+        });
+        final CompletableFuture<Void> waitingTask = documentationService.supplyBatchAsync(() -> {
+            cancelledTaskStarted.set(true);
+            return null;
+        });
+        Assertions.assertEquals(1, documentationService.getWaitingBatchTaskCount());
+
+        //when
+        waitingTask.cancel(false);
+        release.countDown();
+        runningTask.get(30, TimeUnit.SECONDS);
+
+        //then
+        Assertions.assertEquals(0, documentationService.getWaitingBatchTaskCount());
+        Assertions.assertFalse(cancelledTaskStarted.get());
+        documentationService.shutdown();
+    }
+
+    private void commit(final String path, final String content) throws IOException, GitAPIException {
+        final Path file = originDir.resolve(path);
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, content);
+        origin.add().addFilepattern(path).call();
+        origin.commit().setMessage("Update " + path).call();
+    }
+
+    /**
+     * Blocks the rendering of documents once {@link #block()} has been called, until {@link #release()} is called
+     */
+    private static class BlockingAsciiDocService extends AsciiDocService {
+
+        private final CountDownLatch blockedRender = new CountDownLatch(1);
+
+        private final CountDownLatch released = new CountDownLatch(1);
+
+        private volatile boolean blocking = false;
+
+        @Override
+        public RenderedDocument render(final Path pathToAdoc) {
+            if (blocking) {
+                blockedRender.countDown();
+                try {
+                    released.await();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return super.render(pathToAdoc);
+        }
+
+        void block() {
+            blocking = true;
+        }
+
+        boolean awaitBlockedRender() throws InterruptedException {
+            return blockedRender.await(30, TimeUnit.SECONDS);
+        }
+
+        void release() {
+            released.countDown();
+        }
+    }
 }
@@ -0,0 +1,88 @@
+package net.adoptium.documentationservices.services;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class GitHubHeadCheckerTest {
+
+    private static final String SHA = "0123456789abcdef0123456789abcdef01234567";
+
+    private static final String ETAG = "\"etag-1\"";
+
+    private HttpServer server;
+
+    private final AtomicInteger status = new AtomicInteger(200);
+
+    private final List<String> receivedEtags = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    public void init() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/repos/adoptium/documentation/commits/HEAD", exchange -> {
+            final String ifNoneMatch = exchange.getRequestHeaders().getFirst("If-None-Match");
+            receivedEtags.add(String.valueOf(ifNoneMatch));
+            if (status.get() != 200) {
+                exchange.sendResponseHeaders(status.get(), -1);
+            } else if (ETAG.equals(ifNoneMatch)) {
+                exchange.sendResponseHeaders(304, -1);
+            } else {
+                final byte[] body = SHA.getBytes(StandardCharsets.UTF_8);
+                exchange.getResponseHeaders().add("ETag", ETAG);
+                exchange.sendResponseHeaders(200, body.length);
+                try (OutputStream outputStream = exchange.getResponseBody()) {
+                    outputStream.write(body);
+                }
+            }
+            exchange.close();
+        });
+        server.start();
+    }
+
+    @AfterEach
+    public void cleanup() {
+        server.stop(0);
+    }
+
+    @Test
+    public void testConditionalRequest() throws IOException {
+        //given
+        final GitHubHeadChecker checker = new GitHubHeadChecker(getApiUrl(), "adoptium/documentation", null);
+
+        //when
+        final String firstHead = checker.getHead();
+        final String secondHead = checker.getHead();
+
+        //then
+        Assertions.assertEquals(SHA, firstHead);
+        Assertions.assertEquals(SHA, secondHead);
+        Assertions.assertEquals(List.of("null", ETAG), receivedEtags);
+    }
+
+    @Test
+    public void testUnexpectedStatus() {
+        //given
+        final GitHubHeadChecker checker = new GitHubHeadChecker(getApiUrl(), "adoptium/documentation", null);
+
+        //when
+        status.set(403);
+
+        //then
+        Assertions.assertThrows(IOException.class, () -> checker.getHead());
+    }
+
+    private String getApiUrl() {
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort() + "/";
+    }
+}
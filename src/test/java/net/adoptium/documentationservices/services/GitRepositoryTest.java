@@ -0,0 +1,140 @@
+package net.adoptium.documentationservices.services;
+
+import net.adoptium.documentationservices.model.Contributor;
+import net.adoptium.documentationservices.testutils.TestUtils;
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.api.errors.GitAPIException;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.PersonIdent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.Set;
+
+class GitRepositoryTest {
+
+    private Path tempDir;
+
+    private Path originDir;
+
+    private Git origin;
+
+    @BeforeEach
+    public void init() throws IOException, GitAPIException {
+        tempDir = Files.createTempDirectory("git-repository-test");
+        originDir = tempDir.resolve("origin");
+        origin = Git.init().setDirectory(originDir.toFile()).call();
+        commit("installation/index.adoc", "= Installation", new PersonIdent("John Doe", "12345+jdoe@users.noreply.github.com"));
+        commit("installation/index_de.adoc", "= Installation", new PersonIdent("Max Mustermann", "max@example.com"));
+        commit("other/index.adoc", "= Other", new PersonIdent("Jane Doe", "jane@users.noreply.github.com"));
+    }
+
+    @AfterEach
+    public void cleanup() throws IOException {
+        origin.close();
+        TestUtils.deleteTempFile(tempDir);
+    }
+
+    @Test
+    public void testExport() throws IOException {
+        //given
+        final GitRepository repository = new GitRepository(originDir.toUri().toString(), tempDir.resolve("clone"));
+        final Path target = Files.createDirectory(tempDir.resolve("export"));
+
+        //when
+        repository.update();
+        repository.export(target);
+
+        //then
+        Assertions.assertTrue(Files.isRegularFile(target.resolve("installation/index.adoc")));
+        Assertions.assertTrue(Files.isRegularFile(target.resolve("installation/index_de.adoc")));
+        Assertions.assertTrue(Files.isRegularFile(target.resolve("other/index.adoc")));
+        Assertions.assertFalse(Files.exists(target.resolve(".git")));
+    }
+
+    @Test
+    public void testGetRemoteHead() throws IOException, GitAPIException {
+        //given
+        final GitRepository repository = new GitRepository(originDir.toUri().toString(), tempDir.resolve("clone"));
+        final ObjectId head = repository.update();
+
+        //then
+        Assertions.assertEquals(Optional.of(head.getName()), repository.getRemoteHead());
+        commit("other/index.adoc", "= Other 2", new PersonIdent("Jane Doe", "jane@users.noreply.github.com"));
+        final Optional<String> remoteHead = repository.getRemoteHead();
+        Assertions.assertNotEquals(Optional.of(head.getName()), remoteHead);
+        Assertions.assertEquals(remoteHead, Optional.of(repository.update().getName()));
+    }
+
+    @Test
+    public void testGetContributors() throws IOException {
+        //given
+        final GitRepository repository = new GitRepository(originDir.toUri().toString(), tempDir.resolve("clone"));
+        final ObjectId head = repository.update();
+
+        //when
+        final Set<Contributor> contributors = repository.getContributors("installation", head.getName());
+
+        //then
+        Assertions.assertEquals(2, contributors.size());
+        Assertions.assertTrue(contributors.contains(new Contributor("jdoe", "John Doe", "https://avatars.githubusercontent.com/u/12345")));
+        Assertions.assertTrue(contributors.stream().anyMatch(c -> c.getGithubId().equals("max@example.com")));
+    }
+
+    @Test
+    public void testRepoServiceWithLocalClone() throws IOException {
+        //given
+        final RepoService repoService = new RepoService("adoptium/documentation", Optional.of(originDir.toUri().toString()));
+
+        //when
+        final Set<Contributor> contributors = repoService.getContributors("other");
+
+        //then
+        Assertions.assertTrue(Files.isRegularFile(repoService.getCurrentSnapshot().getPath().resolve("installation/index.adoc")));
+        Assertions.assertEquals(Set.of(new Contributor("jane", "Jane Doe", "https://github.com/jane.png")), contributors);
+        Assertions.assertFalse(repoService.isUpdateAvailable());
+
+        repoService.clear();
+    }
+
+    @Test
+    public void testRepoServiceRestoresPersistedSnapshot() throws IOException, GitAPIException {
+        //given
+        final Optional<String> gitUri = Optional.of(originDir.toUri().toString());
+        final Optional<String> dataDir = Optional.of(tempDir.resolve("data").toString());
+        final RepoSnapshot persistedSnapshot = new RepoService("adoptium/documentation", RepoService.GITHUB_API_URL, gitUri, dataDir).getCurrentSnapshot();
+
+        //when
+        final RepoService repoService = new RepoService("adoptium/documentation", RepoService.GITHUB_API_URL, gitUri, dataDir);
+
+        //then
+        final RepoSnapshot restoredSnapshot = repoService.getCurrentSnapshot();
+        Assertions.assertEquals(persistedSnapshot.getId(), restoredSnapshot.getId());
+        Assertions.assertEquals(persistedSnapshot.getPath(), restoredSnapshot.getPath());
+        Assertions.assertEquals(persistedSnapshot.getRevision(), restoredSnapshot.getRevision());
+        Assertions.assertTrue(persistedSnapshot.getCommitTime().isPresent());
+        Assertions.assertEquals(persistedSnapshot.getCommitTime(), restoredSnapshot.getCommitTime());
+        Assertions.assertFalse(repoService.isUpdateAvailable());
+        Assertions.assertEquals(Set.of(new Contributor("jane", "Jane Doe", "https://github.com/jane.png")), repoService.getContributors("other"));
+
+        commit("other/index.adoc", "= Other 2", new PersonIdent("Jane Doe", "jane@users.noreply.github.com"));
+        Assertions.assertTrue(repoService.isUpdateAvailable());
+        repoService.downloadRepositoryContent();
+        Assertions.assertNotEquals(persistedSnapshot.getId(), repoService.getCurrentSnapshot().getId());
+        Assertions.assertFalse(Files.exists(persistedSnapshot.getPath()));
+    }
+
+    private void commit(final String path, final String content, final PersonIdent author) throws IOException, GitAPIException {
+        final Path file = originDir.resolve(path);
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, content);
+        origin.add().addFilepattern(path).call();
+        origin.commit().setMessage("Update " + path).setAuthor(author).setCommitter(author).call();
+    }
+}
@@ -0,0 +1,110 @@
+package net.adoptium.documentationservices.services;
+
+import net.adoptium.documentationservices.adoc.RenderedDocument;
+import net.adoptium.documentationservices.model.Contributor;
+import net.adoptium.documentationservices.testutils.TestUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+class RenderedStoreTest {
+
+    private Path tempDir;
+
+    @BeforeEach
+    public void init() throws IOException {
+        tempDir = Files.createTempDirectory("rendered-store-test");
+    }
+
+    @AfterEach
+    public void cleanup() throws IOException {
+        TestUtils.deleteTempFile(tempDir);
+    }
+
+    @Test
+    public void testStoreDocument() {
+        //given
+        final RenderedStore store = new RenderedStore(tempDir.resolve("rendered"));
+        final Map<String, String> metadata = new HashMap<>();
+        metadata.put("description", "Installation of Temurin");
+        metadata.put("empty", null);
+        final RenderedDocument document = new RenderedDocument("Installation", metadata, "<p>\u00dcn\u00efc\u00f6d\u00e9</p>");
+
+        //when
+        store.saveDocument("installation/index.adoc", "fingerprint-1", document);
+        final Optional<RenderedDocument> loadedDocument = new RenderedStore(tempDir.resolve("rendered")).loadDocument("installation/index.adoc", "fingerprint-1");
+
+        //then
+        Assertions.assertTrue(loadedDocument.isPresent());
+        Assertions.assertEquals("Installation", loadedDocument.get().getTitle());
+        Assertions.assertEquals(metadata, loadedDocument.get().getMetadata());
+        Assertions.assertEquals("<p>\u00dcn\u00efc\u00f6d\u00e9</p>", loadedDocument.get().getHtmlContent());
+        Assertions.assertTrue(store.loadDocument("installation/index.adoc", "fingerprint-2").isEmpty());
+        Assertions.assertTrue(store.loadDocument("other/index.adoc", "fingerprint-1").isEmpty());
+    }
+
+    @Test
+    public void testStoreCompressedDocument() {
+        //given
+        final RenderedStore store = new RenderedStore(tempDir.resolve("rendered"));
+        final RenderedDocument document = new RenderedDocument("Installation", Map.of(), "<p>Text</p>".repeat(100));
+        final byte[] gzipContent = document.getEncodedHtmlContent().getGzipContent().orElseThrow();
+        final RenderedDocument smallDocument = new RenderedDocument("Installation", Map.of(), "<p/>");
+
+        //when
+        store.saveDocument("installation/index.adoc", "fingerprint-1", document);
+        store.saveDocument("installation/index_de.adoc", "fingerprint-1", smallDocument);
+        final RenderedDocument loadedDocument = store.loadDocument("installation/index.adoc", "fingerprint-1").orElseThrow();
+        final RenderedDocument loadedSmallDocument = store.loadDocument("installation/index_de.adoc", "fingerprint-1").orElseThrow();
+
+        //then
+        Assertions.assertArrayEquals(document.getEncodedHtmlContent().getContent(), loadedDocument.getEncodedHtmlContent().getContent());
+        Assertions.assertArrayEquals(gzipContent, loadedDocument.getEncodedHtmlContent().getGzipContent().orElseThrow());
+        Assertions.assertEquals("<p/>", loadedSmallDocument.getHtmlContent());
+        Assertions.assertTrue(loadedSmallDocument.getEncodedHtmlContent().getGzipContent().isEmpty());
+    }
+
+    @Test
+    public void testStoreContributors() {
+        //given
+        final RenderedStore store = new RenderedStore(tempDir.resolve("rendered"));
+        final Set<Contributor> contributors = Set.of(new Contributor("jdoe", "John Doe", "https://github.com/jdoe.png"));
+
+        //when
+        store.saveContributors("installation", "abc", contributors);
+
+        //then
+        Assertions.assertEquals(Optional.of(contributors), store.loadContributors("installation", "abc"));
+        Assertions.assertTrue(store.loadContributors("installation", "def").isEmpty());
+    }
+
+    @Test
+    public void testRetain() {
+        //given
+        final RenderedStore store = new RenderedStore(tempDir.resolve("rendered"));
+        final RenderedDocument document = new RenderedDocument(null, Map.of(), "<p>Text</p>");
+        store.saveDocument("installation/index.adoc", "fingerprint-1", document);
+        store.saveDocument("installation/index.adoc", "fingerprint-2", document);
+        store.saveContributors("installation", "abc", Set.of());
+        store.saveContributors("installation", "def", Set.of());
+
+        //when
+        store.retain(Map.of("installation/index.adoc", "fingerprint-2"), List.of("installation"), "def");
+
+        //then
+        Assertions.assertTrue(store.loadDocument("installation/index.adoc", "fingerprint-1").isEmpty());
+        Assertions.assertTrue(store.loadDocument("installation/index.adoc", "fingerprint-2").isPresent());
+        Assertions.assertTrue(store.loadContributors("installation", "abc").isEmpty());
+        Assertions.assertTrue(store.loadContributors("installation", "def").isPresent());
+    }
+}
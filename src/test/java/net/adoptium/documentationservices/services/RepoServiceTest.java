@@ -1,16 +1,30 @@
 package net.adoptium.documentationservices.services;
 
+import com.sun.net.httpserver.HttpServer;
 import net.adoptium.documentationservices.model.Contributor;
 import net.adoptium.documentationservices.testutils.TestUtils;
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.api.errors.GitAPIException;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Duration;
+import java.time.ZonedDateTime;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
 
 
 public class RepoServiceTest {
@@ -33,10 +47,10 @@ public class RepoServiceTest {
     public void testRepositoryDownload() throws IOException {
         //given
         final RepoService repoService = new RepoService("adoptium/documentation");
-        final Path downloadedData = repoService.getLocalRepoPath();
 
         //when
         repoService.downloadRepositoryContent();
+        final Path downloadedData = repoService.getCurrentSnapshot().getPath();
 
         //then
         Assertions.assertNotNull(downloadedData);
@@ -51,12 +65,15 @@ public class RepoServiceTest {
     public void testRepositoryReDownload() throws IOException {
         //given
         final RepoService repoService = new RepoService("adoptium/documentation");
-        final Path downloadedData = repoService.getLocalRepoPath();
+        final Path previousData = repoService.getCurrentSnapshot().getPath();
 
         //when
         repoService.downloadRepositoryContent();
+        final Path downloadedData = repoService.getCurrentSnapshot().getPath();
 
         //then
+        Assertions.assertNotEquals(previousData, downloadedData);
+        Assertions.assertFalse(Files.exists(previousData));
         Assertions.assertNotNull(downloadedData);
         Assertions.assertTrue(Files.isDirectory(downloadedData));
         Assertions.assertTrue(Files.list(downloadedData).count() > 0);
@@ -100,6 +117,31 @@ public class RepoServiceTest {
         repoService.clear();
     }
 
+    @Test
+    public void testSnapshotIsKeptWhileFileIsRead() throws IOException, GitAPIException {
+        //given
+        final Path tempDir = Files.createTempDirectory("repo-service-test");
+        final Git origin = createOrigin(tempDir.resolve("origin"));
+        final RepoService repoService = new RepoService("adoptium/documentation", Optional.of(tempDir.resolve("origin").toUri().toString()));
+        final Path previousData = repoService.getCurrentSnapshot().getPath();
+        final InputStream inputStream = repoService.readFile(Path.of("README.md")).orElseThrow();
+
+        try {
+            //when
+            repoService.downloadRepositoryContent();
+
+            //then
+            Assertions.assertNotEquals(previousData, repoService.getCurrentSnapshot().getPath());
+            Assertions.assertTrue(Files.exists(previousData));
+            inputStream.close();
+            Assertions.assertFalse(Files.exists(previousData));
+        } finally {
+            origin.close();
+            repoService.clear();
+            TestUtils.deleteTempFile(tempDir);
+        }
+    }
+
     @Test
     public void testClearWithoutDownload() {
         //given
@@ -123,6 +165,108 @@ public class RepoServiceTest {
         Assertions.assertTrue(containsUser(contributors, "MBoegers"));
     }
 
+    @Test
+    public void testGetContributorsFromCache() throws IOException {
+        //given
+        final AtomicInteger commitListRequests = new AtomicInteger();
+        final HttpServer server = startGitHubStub(commitListRequests);
+        final String apiUrl = "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort();
+        final RepoService repoService = new RepoService("adoptium/documentation", apiUrl, Optional.empty(), Optional.empty());
+        final String docId = "installation";
+
+        try {
+            //when
+            final Set<Contributor> contributors1 = repoService.getContributors(docId);
+            final Set<Contributor> contributors2 = repoService.getContributors(docId);
+            final int requestsOfFirstSnapshot = commitListRequests.get();
+            repoService.downloadRepositoryContent();
+            final Set<Contributor> contributors3 = repoService.getContributors(docId);
+
+            //then
+            Assertions.assertSame(contributors1, contributors2);
+            Assertions.assertEquals(1, requestsOfFirstSnapshot);
+            Assertions.assertEquals(2, commitListRequests.get());
+            Assertions.assertNotSame(contributors1, contributors3);
+            Assertions.assertTrue(containsUser(contributors1, "MBoegers"));
+            Assertions.assertEquals(Optional.of(ZonedDateTime.parse("2021-06-01T12:00:00Z")), repoService.getCurrentSnapshot().getCommitTime());
+            //the details of a user are kept for all snapshots
+            Assertions.assertSame(contributors1.iterator().next(), contributors3.iterator().next());
+        } finally {
+            repoService.clear();
+            server.stop(0);
+        }
+    }
+
+    /**
+     * Creates a local git repository that can be used instead of the GitHub repository.
+     *
+     * @param directory directory of the repository
+     * @return the repository
+     */
+    private static Git createOrigin(final Path directory) throws IOException, GitAPIException {
+        final Git origin = Git.init().setDirectory(directory.toFile()).call();
+        Files.writeString(directory.resolve("README.md"), "# Documentation");
+        Files.createDirectories(directory.resolve("installation"));
+        Files.writeString(directory.resolve("installation/index.adoc"), "= Installation");
+        origin.add().addFilepattern(".").call();
+        origin.commit().setMessage("Add installation").call();
+        return origin;
+    }
+
+    /**
+     * Starts a local server that answers the GitHub REST API requests that are needed to download the repository and
+     * to request the contributors of a documentation. The repository contains a single commit of a single user.
+     *
+     * @param commitListRequests counts the requests for the commits of a documentation
+     * @return the server
+     */
+    private static HttpServer startGitHubStub(final AtomicInteger commitListRequests) throws IOException {
+        final String repositoryPath = "/repos/adoptium/documentation";
+        final String sha = "0123456789abcdef0123456789abcdef01234567";
+        final String user = "{\"login\":\"MBoegers\",\"id\":1,\"type\":\"User\",\"name\":\"Merlin\",\"avatar_url\":\"https://example.com/avatar\"}";
+        final String commit = "{\"sha\":\"" + sha + "\",\"commit\":{\"committer\":{\"name\":\"Merlin\",\"date\":\"2021-06-01T12:00:00Z\"}},\"author\":" + user + ",\"committer\":" + user + ",\"files\":[],\"stats\":{\"total\":1,\"additions\":1,\"deletions\":0}}";
+
+        final ByteArrayOutputStream zip = new ByteArrayOutputStream();
+        try (ZipOutputStream zipOutputStream = new ZipOutputStream(zip)) {
+            zipOutputStream.putNextEntry(new ZipEntry("adoptium-documentation-0123456/installation/index.adoc"));
+            zipOutputStream.write("= Installation".getBytes(StandardCharsets.UTF_8));
+            zipOutputStream.closeEntry();
+        }
+
+        final HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", exchange -> {
+            final String path = exchange.getRequestURI().getPath();
+            final byte[] body;
+            if (path.equals(repositoryPath + "/commits/HEAD")) {
+                body = sha.getBytes(StandardCharsets.UTF_8);
+            } else if (path.equals(repositoryPath + "/commits")) {
+                commitListRequests.incrementAndGet();
+                body = ("[" + commit + "]").getBytes(StandardCharsets.UTF_8);
+            } else if (path.equals(repositoryPath + "/commits/" + sha)) {
+                body = commit.getBytes(StandardCharsets.UTF_8);
+            } else if (path.equals(repositoryPath + "/zipball/" + sha)) {
+                body = zip.toByteArray();
+            } else if (path.equals(repositoryPath)) {
+                body = "{\"name\":\"documentation\",\"full_name\":\"adoptium/documentation\",\"owner\":{\"login\":\"adoptium\"}}".getBytes(StandardCharsets.UTF_8);
+            } else if (path.equals("/users/MBoegers")) {
+                body = user.getBytes(StandardCharsets.UTF_8);
+            } else {
+                body = null;
+            }
+            if (body == null) {
+                exchange.sendResponseHeaders(404, -1);
+            } else {
+                exchange.sendResponseHeaders(200, body.length);
+                try (OutputStream outputStream = exchange.getResponseBody()) {
+                    outputStream.write(body);
+                }
+            }
+            exchange.close();
+        });
+        server.start();
+        return server;
+    }
+
     private boolean containsUser(Set<Contributor> contributors, String userName) {
         return contributors.stream()
                 .map(contributor -> contributor.getGithubId())
@@ -0,0 +1,82 @@
+package net.adoptium.documentationservices.services;
+
+import net.adoptium.documentationservices.testutils.TestUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.ZonedDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class RepoSnapshotTest {
+
+    @Test
+    public void testCleanupAfterLastRelease() {
+        //given
+        final AtomicInteger cleanupCount = new AtomicInteger();
+        final RepoSnapshot snapshot = new RepoSnapshot("1", "abc", null, Path.of("snapshot-1"), ZonedDateTime.now(), () -> cleanupCount.incrementAndGet());
+
+        //when
+        Assertions.assertTrue(snapshot.acquire());
+        snapshot.release();
+
+        //then
+        Assertions.assertEquals(0, cleanupCount.get());
+        snapshot.release();
+        Assertions.assertEquals(1, cleanupCount.get());
+    }
+
+    @Test
+    public void testAcquireAfterRelease() {
+        //given
+        final RepoSnapshot snapshot = new RepoSnapshot("1", "abc", Path.of("snapshot-1"), ZonedDateTime.now());
+
+        //when
+        snapshot.release();
+
+        //then
+        Assertions.assertFalse(snapshot.acquire());
+        Assertions.assertThrows(IllegalStateException.class, () -> snapshot.release());
+    }
+
+    @Test
+    public void testLastModified() {
+        //given
+        final ZonedDateTime commitTime = ZonedDateTime.parse("2021-06-01T12:00:00Z");
+        final ZonedDateTime timestamp = ZonedDateTime.parse("2021-06-02T08:00:00Z");
+
+        //when
+        final RepoSnapshot snapshot = new RepoSnapshot("1", "abc", commitTime, Path.of("snapshot-1"), timestamp);
+        final RepoSnapshot snapshotWithoutCommitTime = new RepoSnapshot("2", null, Path.of("snapshot-2"), timestamp);
+
+        //then
+        Assertions.assertEquals(commitTime, snapshot.getLastModified());
+        Assertions.assertEquals(timestamp, snapshotWithoutCommitTime.getLastModified());
+    }
+
+    @Test
+    public void testContentHash() throws IOException {
+        //given
+        final Path tempDir = Files.createTempDirectory("repo-snapshot-test");
+        Files.writeString(tempDir.resolve("logo.svg"), "<svg/>");
+        Files.writeString(tempDir.resolve("copy.svg"), "<svg/>");
+        Files.writeString(tempDir.resolve("other.svg"), "<svg></svg>");
+        final RepoSnapshot snapshot = new RepoSnapshot("1", "abc", tempDir, ZonedDateTime.now());
+
+        try {
+            //when
+            final String hash = snapshot.getContentHash(tempDir.resolve("logo.svg"));
+
+            //then
+            Assertions.assertEquals(hash, snapshot.getContentHash(tempDir.resolve("copy.svg")));
+            Assertions.assertNotEquals(hash, snapshot.getContentHash(tempDir.resolve("other.svg")));
+            //the content of a snapshot never changes, so the hash is not computed again
+            Files.writeString(tempDir.resolve("logo.svg"), "<svg></svg>");
+            Assertions.assertEquals(hash, snapshot.getContentHash(tempDir.resolve("logo.svg")));
+        } finally {
+            TestUtils.deleteTempFile(tempDir);
+        }
+    }
+}
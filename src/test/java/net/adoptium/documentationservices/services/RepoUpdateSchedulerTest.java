@@ -0,0 +1,114 @@
+package net.adoptium.documentationservices.services;
+
+import net.adoptium.documentationservices.testutils.TestUtils;
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.api.errors.GitAPIException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class RepoUpdateSchedulerTest {
+
+    @Test
+    public void testBurstOfRequestsIsCoalesced() throws InterruptedException {
+        //given
+        final AtomicInteger refreshCount = new AtomicInteger();
+        final CountDownLatch refreshed = new CountDownLatch(1);
+        final RepoUpdateScheduler scheduler = new RepoUpdateScheduler(() -> {
+        }, () -> {
+            refreshCount.incrementAndGet();
+            refreshed.countDown();
+        }, Duration.ofMillis(200));
+
+        try {
+            //when
+            for (int i = 0; i < 10; i++) {
+                scheduler.requestRefresh();
+            }
+
+            //then
+            Assertions.assertTrue(refreshed.await(5, TimeUnit.SECONDS));
+            TestUtils.sleep(Duration.ofMillis(500));
+            Assertions.assertEquals(1, refreshCount.get());
+        } finally {
+            scheduler.shutdown();
+        }
+    }
+
+    @Test
+    public void testRequestAfterRefreshStartsNewRefresh() throws InterruptedException {
+        //given
+        final AtomicInteger refreshCount = new AtomicInteger();
+        final CountDownLatch firstRefresh = new CountDownLatch(1);
+        final CountDownLatch secondRefresh = new CountDownLatch(2);
+        final RepoUpdateScheduler scheduler = new RepoUpdateScheduler(() -> {
+        }, () -> {
+            refreshCount.incrementAndGet();
+            firstRefresh.countDown();
+            secondRefresh.countDown();
+        }, Duration.ofMillis(50));
+
+        try {
+            //when
+            scheduler.requestRefresh();
+            Assertions.assertTrue(firstRefresh.await(5, TimeUnit.SECONDS));
+            scheduler.requestRefresh();
+
+            //then
+            Assertions.assertTrue(secondRefresh.await(5, TimeUnit.SECONDS));
+            Assertions.assertEquals(2, refreshCount.get());
+        } finally {
+            scheduler.shutdown();
+        }
+    }
+
+    @Test
+    public void testDeliveriesForTheSameHeadDownloadOnce() throws IOException, GitAPIException, InterruptedException {
+        //given
+        final Path tempDir = Files.createTempDirectory("update-scheduler-test");
+        final Path originDir = tempDir.resolve("origin");
+        final Git origin = Git.init().setDirectory(originDir.toFile()).call();
+        commit(origin, originDir, "= Installation\n");
+        final RepoService repoService = new RepoService("adoptium/documentation", RepoService.GITHUB_API_URL, Optional.of(originDir.toUri().toString()), Optional.empty());
+        final AtomicInteger downloadCount = new AtomicInteger();
+        final CountDownLatch downloaded = new CountDownLatch(1);
+        repoService.addSnapshotListener(snapshot -> {
+            downloadCount.incrementAndGet();
+            downloaded.countDown();
+        });
+        final RepoUpdateScheduler scheduler = new RepoUpdateScheduler(repoService, Duration.ofMillis(50));
+
+        try {
+            //when
+            commit(origin, originDir, "= Installation\n\nInstall Temurin.\n");
+            scheduler.requestRefresh();
+            Assertions.assertTrue(downloaded.await(5, TimeUnit.SECONDS));
+            //a redelivery of the same push
+            scheduler.requestRefresh();
+            TestUtils.sleep(Duration.ofMillis(500));
+
+            //then
+            Assertions.assertEquals(1, downloadCount.get());
+        } finally {
+            scheduler.shutdown();
+            origin.close();
+            repoService.clear();
+            TestUtils.deleteTempFile(tempDir);
+        }
+    }
+
+    private static void commit(final Git origin, final Path originDir, final String content) throws IOException, GitAPIException {
+        Files.createDirectories(originDir.resolve("installation"));
+        Files.writeString(originDir.resolve("installation/index.adoc"), content);
+        origin.add().addFilepattern("installation/index.adoc").call();
+        origin.commit().setMessage("Update installation").call();
+    }
+}
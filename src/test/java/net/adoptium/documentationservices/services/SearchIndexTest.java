@@ -0,0 +1,118 @@
+package net.adoptium.documentationservices.services;
+
+import net.adoptium.documentationservices.model.Document;
+import net.adoptium.documentationservices.model.Documentation;
+import net.adoptium.documentationservices.model.SearchResult;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+class SearchIndexTest {
+
+    private final SearchIndex searchIndex = SearchIndex.build(List.of(
+            new Documentation("installation", List.of(
+                    new Document("Installing Temurin", "en", "<p>Download the installer and run it. The installer sets JAVA_HOME.</p>"),
+                    new Document("Temurin installieren", "de", "<p>Den Installer herunterladen &amp; starten.</p>")), Collections.emptyList()),
+            new Documentation("docker", List.of(
+                    new Document("Docker images", "en", "<p>Temurin images are available on Docker Hub. Run <code>docker pull eclipse-temurin</code>.</p>")), Collections.emptyList()),
+            new Documentation("vision", List.of(
+                    new Document("Vision", "en", "<p>Our vision for the documentation.</p>")), Collections.emptyList())));
+
+    @Test
+    public void testRanking() {
+        //when
+        final List<SearchResult> results = searchIndex.search("installer", Locale.ENGLISH, 10);
+
+        //then
+        Assertions.assertEquals(List.of("installation"), getIds(results));
+        Assertions.assertEquals("Installing Temurin", results.get(0).getTitle());
+        Assertions.assertTrue(results.get(0).getScore() > 0);
+        Assertions.assertEquals(List.of("docker", "installation"), getIds(searchIndex.search("docker temurin", Locale.ENGLISH, 10)));
+        Assertions.assertEquals(List.of("docker"), getIds(searchIndex.search("docker temurin", Locale.ENGLISH, 1)));
+        Assertions.assertTrue(searchIndex.search("unknown", Locale.ENGLISH, 10).isEmpty());
+    }
+
+    @Test
+    public void testStemming() {
+        //when
+        final List<SearchResult> results = searchIndex.search("Install", Locale.ENGLISH, 10);
+
+        //then
+        Assertions.assertEquals(List.of("installation"), getIds(results));
+        Assertions.assertEquals(List.of("docker"), getIds(searchIndex.search("image", Locale.ENGLISH, 10)));
+    }
+
+    @Test
+    public void testLanguages() {
+        //when
+        final List<SearchResult> germanResults = searchIndex.search("installer", Locale.GERMAN, 10);
+        final List<SearchResult> frenchResults = searchIndex.search("installer", Locale.FRENCH, 10);
+
+        //then
+        Assertions.assertEquals(Locale.GERMAN, germanResults.get(0).getLocale());
+        Assertions.assertEquals("Den Installer herunterladen & starten.", germanResults.get(0).getSnippet());
+        Assertions.assertEquals(Locale.ENGLISH, frenchResults.get(0).getLocale());
+        Assertions.assertEquals(4, searchIndex.size());
+    }
+
+    @Test
+    public void testDocumentationsWithoutDocumentInLanguage() {
+        //when
+        final List<SearchResult> visionResults = searchIndex.search("vision", Locale.GERMAN, 10);
+        final List<SearchResult> temurinResults = searchIndex.search("temurin", Locale.GERMAN, 10);
+
+        //then
+        Assertions.assertEquals(List.of("vision"), getIds(visionResults));
+        Assertions.assertEquals(Locale.ENGLISH, visionResults.get(0).getLocale());
+        Assertions.assertEquals(2, temurinResults.size());
+        Assertions.assertEquals(Set.of("installation", "docker"), Set.copyOf(getIds(temurinResults)));
+        Assertions.assertEquals(Locale.GERMAN, temurinResults.stream().filter(r -> r.getDocumentationId().equals("installation")).findAny().orElseThrow().getLocale());
+        Assertions.assertEquals(Locale.ENGLISH, temurinResults.stream().filter(r -> r.getDocumentationId().equals("docker")).findAny().orElseThrow().getLocale());
+        Assertions.assertEquals(1, searchIndex.search("temurin", Locale.GERMAN, 1).size());
+    }
+
+    @Test
+    public void testSnippet() {
+        //given
+        final String longText = String.join(" ", Collections.nCopies(100, "lorem")) + " needle " + String.join(" ", Collections.nCopies(100, "ipsum"));
+        final SearchIndex index = SearchIndex.build(List.of(new Documentation("long", List.of(new Document("Long", "en", "<p>" + longText + "</p>")), Collections.emptyList())));
+
+        //when
+        final String snippet = index.search("needle", Locale.ENGLISH, 10).get(0).getSnippet();
+
+        //then
+        Assertions.assertTrue(snippet.startsWith("...lorem"));
+        Assertions.assertTrue(snippet.endsWith("ipsum..."));
+        Assertions.assertTrue(snippet.contains(" needle "));
+        Assertions.assertTrue(snippet.length() <= 206);
+    }
+
+    @Test
+    public void testSnippetOfMarkup() {
+        //given
+        final String paragraph = "<p class=\"paragraph\">Über <em>die</em> Größe &amp; Form der Datei.</p>\n";
+        final String html = String.join("", Collections.nCopies(40, paragraph)) + "<p><a href=\"#needle\">Nadel</a> gefunden</p>"
+                + String.join("", Collections.nCopies(40, paragraph));
+        final SearchIndex index = SearchIndex.build(List.of(new Documentation("markup", List.of(new Document("Markup", "en", "<p>Markup</p>"), new Document("Markup", "de", html)), Collections.emptyList())));
+
+        //when
+        final String snippet = index.search("nadel", Locale.GERMAN, 10).get(0).getSnippet();
+
+        //then
+        Assertions.assertTrue(snippet.startsWith("..."));
+        Assertions.assertTrue(snippet.endsWith("..."));
+        Assertions.assertTrue(snippet.contains("Größe & Form der Datei. Nadel gefunden Über die Größe"));
+        Assertions.assertFalse(snippet.contains("<"));
+        Assertions.assertFalse(snippet.contains("needle"));
+        Assertions.assertTrue(snippet.length() <= 206);
+    }
+
+    private static List<String> getIds(final List<SearchResult> results) {
+        return results.stream().map(SearchResult::getDocumentationId).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,92 @@
+package net.adoptium.documentationservices.services;
+
+import net.adoptium.documentationservices.testutils.TestUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+class SourceFingerprintTest {
+
+    private Path tempDir;
+
+    @BeforeEach
+    public void init() throws IOException {
+        tempDir = Files.createTempDirectory("fingerprint-test");
+    }
+
+    @AfterEach
+    public void cleanup() throws IOException {
+        TestUtils.deleteTempFile(tempDir);
+    }
+
+    @Test
+    public void testSameContent() throws IOException {
+        //given
+        final Path adoc = Files.writeString(tempDir.resolve("index.adoc"), "= Title\n\nText");
+
+        //when
+        final String fingerprint1 = SourceFingerprint.of(adoc);
+        final String fingerprint2 = SourceFingerprint.of(adoc);
+
+        //then
+        Assertions.assertEquals(fingerprint1, fingerprint2);
+    }
+
+    @Test
+    public void testChangedContent() throws IOException {
+        //given
+        final Path adoc = Files.writeString(tempDir.resolve("index.adoc"), "= Title\n\nText");
+        final String fingerprint1 = SourceFingerprint.of(adoc);
+
+        //when
+        Files.writeString(adoc, "= Title\n\nOther text");
+        final String fingerprint2 = SourceFingerprint.of(adoc);
+
+        //then
+        Assertions.assertNotEquals(fingerprint1, fingerprint2);
+    }
+
+    @Test
+    public void testChangedInclude() throws IOException {
+        //given
+        final Path adoc = Files.writeString(tempDir.resolve("index.adoc"), "= Title\n\ninclude::part.adoc[]\n");
+        final Path part = Files.writeString(tempDir.resolve("part.adoc"), "Text");
+        final String fingerprint1 = SourceFingerprint.of(adoc);
+
+        //when
+        Files.writeString(part, "Other text");
+        final String fingerprint2 = SourceFingerprint.of(adoc);
+
+        //then
+        Assertions.assertNotEquals(fingerprint1, fingerprint2);
+    }
+
+    @Test
+    public void testUnrelatedFileChanged() throws IOException {
+        //given
+        final Path adoc = Files.writeString(tempDir.resolve("index.adoc"), "= Title\n\nText");
+        final Path other = Files.writeString(tempDir.resolve("index_de.adoc"), "= Titel\n\nText");
+        final String fingerprint1 = SourceFingerprint.of(adoc);
+
+        //when
+        Files.writeString(other, "= Titel\n\nAnderer Text");
+        final String fingerprint2 = SourceFingerprint.of(adoc);
+
+        //then
+        Assertions.assertEquals(fingerprint1, fingerprint2);
+    }
+
+    @Test
+    public void testRecursiveInclude() throws IOException {
+        //given
+        final Path adoc = Files.writeString(tempDir.resolve("index.adoc"), "= Title\n\ninclude::index.adoc[]\n");
+
+        //then
+        Assertions.assertDoesNotThrow(() -> SourceFingerprint.of(adoc));
+    }
+}
@@ -0,0 +1,73 @@
+package net.adoptium.documentationservices.services;
+
+import net.adoptium.documentationservices.testutils.TestUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+class ZipExtractorTest {
+
+    private Path tempDir;
+
+    @BeforeEach
+    public void init() throws IOException {
+        tempDir = Files.createTempDirectory("zip-extractor-test");
+    }
+
+    @AfterEach
+    public void cleanup() throws IOException {
+        TestUtils.deleteTempFile(tempDir);
+    }
+
+    @Test
+    public void testRootFolderIsStripped() throws IOException {
+        //given
+        final byte[] zip = createZip("adoptium-documentation-1a2b3c4/", null,
+                "adoptium-documentation-1a2b3c4/README.md", "# Readme",
+                "adoptium-documentation-1a2b3c4/installation/", null,
+                "adoptium-documentation-1a2b3c4/installation/index.adoc", "= Installation");
+
+        //when
+        final int fileCount = new ZipExtractor(tempDir).extract(new ByteArrayInputStream(zip));
+
+        //then
+        Assertions.assertEquals(2, fileCount);
+        Assertions.assertEquals("# Readme", Files.readString(tempDir.resolve("README.md")));
+        Assertions.assertEquals("= Installation", Files.readString(tempDir.resolve("installation/index.adoc")));
+        Assertions.assertFalse(Files.exists(tempDir.resolve("adoptium-documentation-1a2b3c4")));
+    }
+
+    @Test
+    public void testEntryOutsideOfTargetDirectory() throws IOException {
+        //given
+        final byte[] zip = createZip("root/../../evil.txt", "evil");
+
+        //then
+        Assertions.assertThrows(IOException.class, () -> new ZipExtractor(tempDir).extract(new ByteArrayInputStream(zip)));
+        Assertions.assertFalse(Files.exists(tempDir.getParent().resolve("evil.txt")));
+    }
+
+    private static byte[] createZip(final String... namesAndContents) throws IOException {
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (ZipOutputStream zipOutputStream = new ZipOutputStream(outputStream)) {
+            for (int i = 0; i < namesAndContents.length; i += 2) {
+                zipOutputStream.putNextEntry(new ZipEntry(namesAndContents[i]));
+                if (namesAndContents[i + 1] != null) {
+                    zipOutputStream.write(namesAndContents[i + 1].getBytes(StandardCharsets.UTF_8));
+                }
+                zipOutputStream.closeEntry();
+            }
+        }
+        return outputStream.toByteArray();
+    }
+}
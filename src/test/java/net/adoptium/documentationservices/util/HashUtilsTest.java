@@ -0,0 +1,25 @@
+package net.adoptium.documentationservices.util;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class HashUtilsTest {
+
+    @Test
+    public void testMd5Hex() {
+        //when
+        final String hash = HashUtils.md5Hex("test@example.com");
+
+        //then
+        Assertions.assertEquals("55502f40dc8b7c769880b10874abc9d0", hash);
+    }
+
+    @Test
+    public void testToHex() {
+        //when
+        final String hex = HashUtils.toHex(new byte[]{0, 15, 16, (byte) 255});
+
+        //then
+        Assertions.assertEquals("000f10ff", hex);
+    }
+}
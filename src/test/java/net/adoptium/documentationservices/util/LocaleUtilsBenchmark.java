@@ -0,0 +1,74 @@
+package net.adoptium.documentationservices.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the lookups in {@link LocaleUtils}. Started by {@link #main(String[])} with the GC profiler, the
+ * {@code gc.alloc.rate.norm} of all benchmarks should be 0 B/op.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LocaleUtilsBenchmark {
+
+    private final String isoCode = "de";
+
+    private final String iso3Code = "deu";
+
+    private final String languageTag = "pt-BR";
+
+    private final String mixedCaseLanguageTag = "PT_br";
+
+    private final Locale locale = LocaleUtils.getBasedOnIsoCode("pt-BR");
+
+    @Benchmark
+    public Locale isoCode() {
+        return LocaleUtils.getBasedOnIsoCode(isoCode);
+    }
+
+    @Benchmark
+    public Locale iso3Code() {
+        return LocaleUtils.getBasedOnIsoCode(iso3Code);
+    }
+
+    @Benchmark
+    public Locale languageTag() {
+        return LocaleUtils.getBasedOnIsoCode(languageTag);
+    }
+
+    @Benchmark
+    public Locale mixedCaseLanguageTag() {
+        return LocaleUtils.getBasedOnIsoCode(mixedCaseLanguageTag);
+    }
+
+    @Benchmark
+    public List<Locale> fallbacks() {
+        return LocaleUtils.getFallbacks(locale);
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(LocaleUtilsBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
@@ -0,0 +1,57 @@
+package net.adoptium.documentationservices.util;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Locale;
+
+class LocaleUtilsTest {
+
+    @Test
+    public void testIsoCodes() {
+        //when
+        final Locale twoLetterLocale = LocaleUtils.getBasedOnIsoCode("de");
+        final Locale threeLetterLocale = LocaleUtils.getBasedOnIsoCode("deu");
+
+        //then
+        Assertions.assertEquals(Locale.GERMAN, twoLetterLocale);
+        Assertions.assertEquals(Locale.GERMAN, threeLetterLocale);
+    }
+
+    @Test
+    public void testLanguageTags() {
+        //when
+        final Locale locale = LocaleUtils.getBasedOnIsoCode("pt-BR");
+        final Locale lowerCaseLocale = LocaleUtils.getBasedOnIsoCode("pt-br");
+        final Locale underscoreLocale = LocaleUtils.getBasedOnIsoCode("pt_BR");
+        final Locale mixedCaseLocale = LocaleUtils.getBasedOnIsoCode(" PT_br ");
+
+        //then
+        Assertions.assertEquals(new Locale("pt", "BR"), locale);
+        Assertions.assertSame(locale, lowerCaseLocale);
+        Assertions.assertSame(locale, underscoreLocale);
+        Assertions.assertSame(locale, mixedCaseLocale);
+        Assertions.assertEquals(Locale.GERMAN, LocaleUtils.getBasedOnIsoCode("DEU"));
+    }
+
+    @Test
+    public void testUnknownCode() {
+        //then
+        Assertions.assertThrows(IllegalArgumentException.class, () -> LocaleUtils.getBasedOnIsoCode("invalid"));
+        Assertions.assertThrows(NullPointerException.class, () -> LocaleUtils.getBasedOnIsoCode(null));
+    }
+
+    @Test
+    public void testFallbacks() {
+        //when
+        final List<Locale> brazilianFallbacks = LocaleUtils.getFallbacks(LocaleUtils.getBasedOnIsoCode("pt-BR"));
+        final List<Locale> englishFallbacks = LocaleUtils.getFallbacks(Locale.ENGLISH);
+
+        //then
+        Assertions.assertEquals(List.of(new Locale("pt", "BR"), new Locale("pt"), Locale.ENGLISH), brazilianFallbacks);
+        Assertions.assertEquals(List.of(Locale.ENGLISH), englishFallbacks);
+        Assertions.assertSame(brazilianFallbacks, LocaleUtils.getFallbacks(new Locale("pt", "BR")));
+        Assertions.assertSame(LocaleUtils.getFallbacks(LocaleUtils.getBasedOnIsoCode("deu")), LocaleUtils.getFallbacks(Locale.GERMAN));
+    }
+}